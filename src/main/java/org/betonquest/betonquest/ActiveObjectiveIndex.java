@@ -0,0 +1,77 @@
+package org.betonquest.betonquest;
+
+import org.betonquest.betonquest.api.Objective;
+import org.betonquest.betonquest.api.profiles.Profile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the active {@link Objective}s of each profile.
+ * <p>
+ * Objectives add and remove themselves when they are activated or deactivated for a profile,
+ * so the objectives of a profile can be found without checking every loaded objective.
+ * <p>
+ * This class is thread safe.
+ */
+public class ActiveObjectiveIndex {
+    /**
+     * The active objectives by profile.
+     */
+    private final Map<Profile, Set<Objective>> objectives;
+
+    /**
+     * Creates a new empty index.
+     */
+    public ActiveObjectiveIndex() {
+        this.objectives = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Adds the objective to the active objectives of the profile.
+     *
+     * @param profile   the profile the objective was activated for
+     * @param objective the activated objective
+     */
+    public void add(final Profile profile, final Objective objective) {
+        objectives.compute(profile, (key, active) -> {
+            final Set<Objective> updated = active == null ? ConcurrentHashMap.newKeySet() : active;
+            updated.add(objective);
+            return updated;
+        });
+    }
+
+    /**
+     * Removes the objective from the active objectives of the profile.
+     *
+     * @param profile   the profile the objective was deactivated for
+     * @param objective the deactivated objective
+     */
+    public void remove(final Profile profile, final Objective objective) {
+        objectives.computeIfPresent(profile, (key, active) -> {
+            active.remove(objective);
+            return active.isEmpty() ? null : active;
+        });
+    }
+
+    /**
+     * Gets the active objectives of the profile.
+     *
+     * @param profile the profile to get the objectives for
+     * @return a new list of the active objectives
+     */
+    public List<Objective> get(final Profile profile) {
+        final Set<Objective> active = objectives.get(profile);
+        return active == null ? new ArrayList<>() : new ArrayList<>(active);
+    }
+
+    /**
+     * Removes all objectives of all profiles.
+     */
+    public void clear() {
+        objectives.clear();
+    }
+}
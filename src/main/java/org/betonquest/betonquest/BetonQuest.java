@@ -100,13 +100,16 @@ import org.betonquest.betonquest.database.Backup;
 import org.betonquest.betonquest.database.Database;
 import org.betonquest.betonquest.database.GlobalData;
 import org.betonquest.betonquest.database.MySQL;
+import org.betonquest.betonquest.database.OfflinePlayerDataCache;
 import org.betonquest.betonquest.database.PlayerData;
+import org.betonquest.betonquest.database.ProfileDataLoader;
 import org.betonquest.betonquest.database.SQLite;
 import org.betonquest.betonquest.database.Saver;
 import org.betonquest.betonquest.events.ClearEvent;
 import org.betonquest.betonquest.events.CommandEvent;
 import org.betonquest.betonquest.events.CompassEvent;
 import org.betonquest.betonquest.events.FolderEvent;
+import org.betonquest.betonquest.events.FolderEventScheduler;
 import org.betonquest.betonquest.events.KillMobEvent;
 import org.betonquest.betonquest.events.ObjectiveEvent;
 import org.betonquest.betonquest.events.OpSudoEvent;
@@ -122,6 +125,7 @@ import org.betonquest.betonquest.id.EventID;
 import org.betonquest.betonquest.id.ID;
 import org.betonquest.betonquest.id.ObjectiveID;
 import org.betonquest.betonquest.id.VariableID;
+import org.betonquest.betonquest.item.ItemCountIndex;
 import org.betonquest.betonquest.item.QuestItemHandler;
 import org.betonquest.betonquest.menu.RPGMenu;
 import org.betonquest.betonquest.modules.logger.DefaultBetonQuestLoggerFactory;
@@ -172,6 +176,7 @@ import org.betonquest.betonquest.objectives.CommandObjective;
 import org.betonquest.betonquest.objectives.ConsumeObjective;
 import org.betonquest.betonquest.objectives.CraftingObjective;
 import org.betonquest.betonquest.objectives.DelayObjective;
+import org.betonquest.betonquest.objectives.DelayScheduler;
 import org.betonquest.betonquest.objectives.DieObjective;
 import org.betonquest.betonquest.objectives.EnchantObjective;
 import org.betonquest.betonquest.objectives.EntityInteractObjective;
@@ -259,6 +264,7 @@ import org.betonquest.betonquest.quest.event.velocity.VelocityEventFactory;
 import org.betonquest.betonquest.quest.event.weather.WeatherEvent;
 import org.betonquest.betonquest.quest.event.weather.WeatherEventFactory;
 import org.betonquest.betonquest.utils.PlayerConverter;
+import org.betonquest.betonquest.utils.location.PlayerMoveDispatcher;
 import org.betonquest.betonquest.variables.ConditionVariable;
 import org.betonquest.betonquest.variables.GlobalPointVariable;
 import org.betonquest.betonquest.variables.GlobalTagVariable;
@@ -288,16 +294,21 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.Handler;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -331,10 +342,17 @@ public class BetonQuest extends JavaPlugin {
 
     private static final Map<ObjectiveID, Objective> OBJECTIVES = new HashMap<>();
 
+    private static final ActiveObjectiveIndex ACTIVE_OBJECTIVES = new ActiveObjectiveIndex();
+
     private static final Map<String, ConversationData> CONVERSATIONS = new HashMap<>();
 
     private static final Map<VariableID, Variable> VARIABLES = new HashMap<>();
 
+    /**
+     * The version of the loaded variables, incremented each time they are cleared.
+     */
+    private static final AtomicInteger VARIABLES_VERSION = new AtomicInteger();
+
     private static final Map<String, QuestCanceler> CANCELERS = new HashMap<>();
 
     /**
@@ -374,6 +392,51 @@ public class BetonQuest extends JavaPlugin {
     @SuppressWarnings("PMD.DoNotUseThreads")
     private AsyncSaver saver;
 
+    /**
+     * Loader for the stored data of profiles.
+     */
+    private ProfileDataLoader profileDataLoader;
+
+    /**
+     * Cache of the data of profiles that are not online.
+     */
+    private OfflinePlayerDataCache offlinePlayerDataCache;
+
+    /**
+     * Dispatcher of player moves to location based objectives.
+     */
+    private PlayerMoveDispatcher playerMoveDispatcher;
+
+    /**
+     * Results of cacheable conditions in the current tick.
+     */
+    private ConditionCache conditionCache;
+
+    /**
+     * Executor of condition checks that are not done on the main thread.
+     */
+    private ConditionExecutor conditionExecutor;
+
+    /**
+     * Shared scheduler of the completions of delay objectives.
+     */
+    private DelayScheduler delayScheduler;
+
+    /**
+     * Amounts of quest items in the inventories and backpacks of players.
+     */
+    private ItemCountIndex itemCountIndex;
+
+    /**
+     * Shared scheduler of the delayed executions of folder events.
+     */
+    private FolderEventScheduler folderEventScheduler;
+
+    /**
+     * Suppliers of additional statistics shown by the {@code /q debug stats} command, by name.
+     */
+    private final Map<String, Supplier<String>> debugStatistics = new ConcurrentSkipListMap<>();
+
     private Updater updater;
 
     private GlobalData globalData;
@@ -421,9 +484,7 @@ public class BetonQuest extends JavaPlugin {
         } else {
             final List<CompletableFuture<Boolean>> conditions = new ArrayList<>();
             for (final ConditionID id : conditionIDs) {
-                final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                        () -> condition(profile, id));
-                conditions.add(future);
+                conditions.add(getInstance().conditionExecutor.check(profile, id));
             }
             for (final CompletableFuture<Boolean> condition : conditions) {
                 try {
@@ -479,6 +540,14 @@ public class BetonQuest extends JavaPlugin {
             getInstance().log.debug(conditionID.getPackage(), "Player was offline, condition is not persistent, returning false");
             return false;
         }
+        final ConditionCache cache = getInstance().conditionCache;
+        final boolean cacheable = profile != null && cache != null && condition.isCacheable();
+        if (cacheable) {
+            final Boolean cached = cache.get(profile, conditionID);
+            if (cached != null) {
+                return cached != conditionID.inverted();
+            }
+        }
         final boolean outcome;
         try {
             outcome = condition.handle(profile);
@@ -486,9 +555,12 @@ public class BetonQuest extends JavaPlugin {
             getInstance().log.warn(conditionID.getPackage(), "Error while checking '" + conditionID + "' condition: " + e.getMessage(), e);
             return false;
         }
+        if (cacheable) {
+            cache.put(profile, conditionID, outcome);
+        }
         final boolean isMet = outcome != conditionID.inverted();
         getInstance().log.debug(conditionID.getPackage(),
-                (isMet ? "TRUE" : "FALSE") + ": " + (conditionID.inverted() ? "inverted" : "") + " condition "
+                () -> (isMet ? "TRUE" : "FALSE") + ": " + (conditionID.inverted() ? "inverted" : "") + " condition "
                         + conditionID + " for " + profile);
         return isMet;
     }
@@ -511,10 +583,10 @@ public class BetonQuest extends JavaPlugin {
             return;
         }
         if (profile == null) {
-            getInstance().log.debug(eventID.getPackage(), "Firing static event " + eventID);
+            getInstance().log.debug(eventID.getPackage(), () -> "Firing static event " + eventID);
         } else {
             getInstance().log.debug(eventID.getPackage(),
-                    "Firing event " + eventID + " for " + profile);
+                    () -> "Firing event " + eventID + " for " + profile);
         }
         try {
             event.fire(profile);
@@ -615,6 +687,16 @@ public class BetonQuest extends JavaPlugin {
         return null;
     }
 
+    /**
+     * Gets the version of the loaded variables. It changes each time the variables are reloaded,
+     * so references to {@link Variable}s created with an older version are outdated.
+     *
+     * @return the version of the loaded variables
+     */
+    public static int getVariablesVersion() {
+        return VARIABLES_VERSION.get();
+    }
+
     public static boolean isVariableType(final String type) {
         return VARIABLE_TYPES.get(type) != null;
     }
@@ -738,7 +820,7 @@ public class BetonQuest extends JavaPlugin {
             return;
         }
 
-        final HistoryHandler debugHistoryHandler = HandlerFactory.createHistoryHandler(this, this.getServer().getScheduler(), config, new File(getDataFolder(), "/logs"), InstantSource.system());
+        final HistoryHandler debugHistoryHandler = HandlerFactory.createHistoryHandler(config, new File(getDataFolder(), "/logs"), InstantSource.system());
         registerLogHandler(getServer(), debugHistoryHandler);
         adventure = BukkitAudiences.create(this);
         final AccumulatingReceiverSelector receiverSelector = new AccumulatingReceiverSelector();
@@ -760,7 +842,7 @@ public class BetonQuest extends JavaPlugin {
                     config.getString("mysql.base"),
                     config.getString("mysql.user"),
                     config.getString("mysql.pass"));
-            if (database.getConnection() != null) {
+            if (database.isConnectionAvailable()) {
                 isMySQLUsed = true;
                 getInstance().log.info("Successfully connected to MySQL database!");
             }
@@ -776,8 +858,13 @@ public class BetonQuest extends JavaPlugin {
 
         database.createTables();
 
-        saver = new AsyncSaver(loggerFactory.create(AsyncSaver.class, "Database"));
+        saver = new AsyncSaver(loggerFactory.create(AsyncSaver.class, "Database"),
+                config.getInt("database.saver.max_batch_size", AsyncSaver.DEFAULT_MAX_BATCH_SIZE),
+                config.getLong("database.saver.max_linger_time", AsyncSaver.DEFAULT_MAX_LINGER_TIME));
         saver.start();
+        profileDataLoader = new ProfileDataLoader(loggerFactory.create(ProfileDataLoader.class, "Database"));
+        offlinePlayerDataCache = new OfflinePlayerDataCache(config.getLong("database.offline_cache.max_size", 500),
+                Duration.ofSeconds(config.getLong("database.offline_cache.expire_after", 30)));
         Backup.loadDatabaseFromBackup();
 
         new JoinQuitListener(loggerFactory, loggerFactory.create(JoinQuitListener.class));
@@ -795,6 +882,21 @@ public class BetonQuest extends JavaPlugin {
 
         new MobKillListener();
 
+        playerMoveDispatcher = new PlayerMoveDispatcher(this);
+        conditionCache = new ConditionCache(this);
+        conditionExecutor = createConditionExecutor();
+        registerDebugStatistic("Condition executor", () -> conditionExecutor.getStatistics());
+        delayScheduler = new DelayScheduler(this, InstantSource.system());
+        itemCountIndex = new ItemCountIndex(this);
+        folderEventScheduler = new FolderEventScheduler(loggerFactory.create(FolderEventScheduler.class), this, saver,
+                InstantSource.system());
+        registerDebugStatistic("Item count index", () -> itemCountIndex.getHitCount() + " hits, "
+                + itemCountIndex.getMissCount() + " misses");
+        registerDebugStatistic("Scheduled delay objectives", () -> String.valueOf(delayScheduler.size()));
+        registerDebugStatistic("Scheduled folder events", () -> String.valueOf(folderEventScheduler.size()));
+        registerDebugStatistic("Condition tick cache", () -> conditionCache.getHitCount() + " hits, "
+                + conditionCache.getMissCount() + " misses");
+
         new CustomDropListener(loggerFactory.create(CustomDropListener.class));
 
         new QuestCommand(loggerFactory, loggerFactory.create(QuestCommand.class), adventure, new PlayerLogWatcher(receiverSelector), debugHistoryHandler);
@@ -984,8 +1086,9 @@ public class BetonQuest extends JavaPlugin {
         Bukkit.getScheduler().scheduleSyncDelayedTask(this, () -> {
             Compatibility.postHook();
             loadData();
-            for (final OnlineProfile onlineProfile : PlayerConverter.getOnlineProfiles()) {
-                final PlayerData playerData = new PlayerData(onlineProfile);
+            for (final Map.Entry<OnlineProfile, PlayerData> entry : PlayerData.loadAll(PlayerConverter.getOnlineProfiles()).entrySet()) {
+                final OnlineProfile onlineProfile = entry.getKey();
+                final PlayerData playerData = entry.getValue();
                 playerDataMap.put(onlineProfile, playerData);
                 playerData.startObjectives();
                 playerData.getJournal().update();
@@ -993,6 +1096,7 @@ public class BetonQuest extends JavaPlugin {
                     new ConversationResumer(loggerFactory, onlineProfile, playerData.getConversation());
                 }
             }
+            folderEventScheduler.loadAsync(PlayerConverter.getOnlineProfiles());
 
             try {
                 playerHider = new PlayerHider();
@@ -1072,7 +1176,9 @@ public class BetonQuest extends JavaPlugin {
         CONDITIONS.clear();
         CONVERSATIONS.clear();
         OBJECTIVES.clear();
+        ACTIVE_OBJECTIVES.clear();
         VARIABLES.clear();
+        VARIABLES_VERSION.incrementAndGet();
         CANCELERS.clear();
 
         loadQuestCanceler();
@@ -1259,6 +1365,7 @@ public class BetonQuest extends JavaPlugin {
         Config.setup(this, config);
         Notify.load();
         lastExecutionCache.reload();
+        offlinePlayerDataCache.clear();
 
         // reload updater settings
         BetonQuest.getInstance().getUpdater().search();
@@ -1281,6 +1388,12 @@ public class BetonQuest extends JavaPlugin {
         if (playerHider != null) {
             playerHider.stop();
         }
+        // replace the executor before shutting down the old one, so no check is rejected in between
+        final ConditionExecutor oldConditionExecutor = conditionExecutor;
+        conditionExecutor = createConditionExecutor();
+        if (oldConditionExecutor != null) {
+            oldConditionExecutor.shutdown();
+        }
         try {
             playerHider = new PlayerHider();
         } catch (final InstructionParseException e) {
@@ -1288,6 +1401,12 @@ public class BetonQuest extends JavaPlugin {
         }
     }
 
+    private ConditionExecutor createConditionExecutor() {
+        return new ConditionExecutor(loggerFactory.create(ConditionExecutor.class),
+                config.getInt("condition_executor.threads", 4), config.getInt("condition_executor.queue_size", 1000),
+                config.getBoolean("condition_executor.virtual_threads"));
+    }
+
     @SuppressWarnings("PMD.DoNotUseThreads")
     @Override
     public void onDisable() {
@@ -1303,6 +1422,9 @@ public class BetonQuest extends JavaPlugin {
             }
             onlineProfile.getPlayer().closeInventory();
         }
+        if (conditionExecutor != null) {
+            conditionExecutor.shutdown();
+        }
         // cancel database saver
         if (saver != null) {
             saver.end();
@@ -1383,20 +1505,113 @@ public class BetonQuest extends JavaPlugin {
     public PlayerData getPlayerData(final Profile profile) {
         PlayerData playerData = playerDataMap.get(profile);
         if (playerData == null && profile.getOnlineProfile().isPresent()) {
-            playerData = new PlayerData(profile);
+            playerData = loadPlayerData(profile);
             putPlayerData(profile, playerData);
         }
         return playerData;
     }
 
+    /**
+     * Retrieves the PlayerData object for the specified profile, no matter if it is online or not.
+     * The data of profiles that are not online is cached.
+     *
+     * @param profile the {@link Profile} of the player
+     * @return PlayerData object for the player
+     */
     public PlayerData getOfflinePlayerData(final Profile profile) {
         final PlayerData playerData = getPlayerData(profile);
         if (playerData == null) {
-            return new PlayerData(profile);
+            return offlinePlayerDataCache.get(profile);
         }
         return playerData;
     }
 
+    /**
+     * Loads the PlayerData of a profile that is about to go online.
+     * If the data is in the offline cache, it is removed from there and handed over instead of loading it again.
+     *
+     * @param profile the {@link Profile} of the player
+     * @return PlayerData object for the player
+     */
+    public PlayerData loadPlayerData(final Profile profile) {
+        final PlayerData cached = offlinePlayerDataCache.remove(profile);
+        return cached == null ? new PlayerData(profile) : cached;
+    }
+
+    /**
+     * Returns the cache of the results of cacheable conditions in the current tick.
+     *
+     * @return the condition cache
+     */
+    public ConditionCache getConditionCache() {
+        return conditionCache;
+    }
+
+    /**
+     * Returns the executor of condition checks that are not done on the main thread.
+     *
+     * @return the condition executor
+     */
+    public ConditionExecutor getConditionExecutor() {
+        return conditionExecutor;
+    }
+
+    /**
+     * Returns the shared scheduler of the completions of delay objectives.
+     *
+     * @return the delay scheduler
+     */
+    public DelayScheduler getDelayScheduler() {
+        return delayScheduler;
+    }
+
+    /**
+     * Returns the index of the amounts of quest items in the inventories and backpacks of players.
+     *
+     * @return the item count index
+     */
+    public ItemCountIndex getItemCountIndex() {
+        return itemCountIndex;
+    }
+
+    /**
+     * Gets the scheduler of the delayed executions of folder events.
+     *
+     * @return the folder event scheduler
+     */
+    public FolderEventScheduler getFolderEventScheduler() {
+        return folderEventScheduler;
+    }
+
+    /**
+     * Returns the cache of the data of profiles that are not online.
+     *
+     * @return the offline player data cache
+     */
+    public OfflinePlayerDataCache getOfflinePlayerDataCache() {
+        return offlinePlayerDataCache;
+    }
+
+    /**
+     * Registers a statistic that is shown by the {@code /q debug stats} command.
+     * A previously registered statistic with the same name is replaced.
+     *
+     * @param name      the name of the statistic
+     * @param statistic the supplier of the current value
+     */
+    public void registerDebugStatistic(final String name, final Supplier<String> statistic) {
+        debugStatistics.put(name, statistic);
+    }
+
+    /**
+     * Gets the statistics shown by the {@code /q debug stats} command.
+     *
+     * @return the suppliers of the statistics by name
+     */
+    public Map<String, Supplier<String>> getDebugStatistics() {
+        return Collections.unmodifiableMap(debugStatistics);
+    }
+
     /**
      * Retrieves GlobalData object which handles all global tags and points
      *
@@ -1407,12 +1622,18 @@ public class BetonQuest extends JavaPlugin {
     }
 
     /**
-     * Removes the database playerData from the map
+     * Removes the database playerData from the map and hands it over to the offline cache,
+     * so the data is not loaded again before the saver wrote the latest changes.
      *
      * @param profile the {@link Profile} of the player whose playerData is to be removed
      */
     public void removePlayerData(final Profile profile) {
-        playerDataMap.remove(profile);
+        final PlayerData playerData = playerDataMap.remove(profile);
+        if (playerData == null) {
+            offlinePlayerDataCache.remove(profile);
+        } else {
+            offlinePlayerDataCache.put(profile, playerData);
+        }
     }
 
     /**
@@ -1549,13 +1770,16 @@ public class BetonQuest extends JavaPlugin {
      * @return list of this player's active objectives
      */
     public List<Objective> getPlayerObjectives(final Profile profile) {
-        final List<Objective> list = new ArrayList<>();
-        for (final Objective objective : OBJECTIVES.values()) {
-            if (objective.containsPlayer(profile)) {
-                list.add(objective);
-            }
-        }
-        return list;
+        return ACTIVE_OBJECTIVES.get(profile);
+    }
+
+    /**
+     * Returns the index of the active objectives of each profile.
+     *
+     * @return the active objective index
+     */
+    public ActiveObjectiveIndex getActiveObjectiveIndex() {
+        return ACTIVE_OBJECTIVES;
     }
 
     /**
@@ -1584,6 +1808,24 @@ public class BetonQuest extends JavaPlugin {
         return saver;
     }
 
+    /**
+     * Returns the {@link PlayerMoveDispatcher} instance used by BetonQuest.
+     *
+     * @return the dispatcher of player moves
+     */
+    public PlayerMoveDispatcher getPlayerMoveDispatcher() {
+        return playerMoveDispatcher;
+    }
+
+    /**
+     * Returns the {@link ProfileDataLoader} instance used by BetonQuest.
+     *
+     * @return the loader for stored profile data
+     */
+    public ProfileDataLoader getProfileDataLoader() {
+        return profileDataLoader;
+    }
+
     /**
      * @param name name of the conversation IO type
      * @return the class object for this conversation IO type
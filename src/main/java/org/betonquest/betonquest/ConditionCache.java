@@ -0,0 +1,117 @@
+package org.betonquest.betonquest;
+
+import org.betonquest.betonquest.api.Condition;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.id.ConditionID;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the results of {@link Condition#isCacheable() cacheable} conditions until the end of the current tick,
+ * so a condition that is checked for the same profile several times in one tick is only handled once.
+ * <p>
+ * The results are stored without the inversion of the {@link ConditionID}.
+ * Changes of the data a cacheable condition depends on must invalidate the results of the profile
+ * or all results for global data.
+ * <p>
+ * This class is thread safe.
+ */
+public class ConditionCache {
+    /**
+     * The amount of checks that were answered from the cache.
+     */
+    private final LongAdder hits;
+
+    /**
+     * The amount of checks of cacheable conditions that had to be handled.
+     */
+    private final LongAdder misses;
+
+    /**
+     * The results of the current tick by profile UUID and condition.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile Map<UUID, Map<ConditionID, Boolean>> results;
+
+    /**
+     * Creates a new cache and starts clearing it every tick.
+     *
+     * @param plugin the plugin to schedule the clearing for
+     */
+    public ConditionCache(final Plugin plugin) {
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.results = new ConcurrentHashMap<>();
+        Bukkit.getScheduler().runTaskTimer(plugin, this::invalidateAll, 1, 1);
+    }
+
+    /**
+     * Gets the result of the condition from the current tick.
+     *
+     * @param profile     the profile the condition is checked for
+     * @param conditionID the condition to check
+     * @return the result without inversion or null if it was not checked in this tick
+     */
+    @Nullable
+    public Boolean get(final Profile profile, final ConditionID conditionID) {
+        final Map<ConditionID, Boolean> profileResults = results.get(profile.getProfileUUID());
+        final Boolean result = profileResults == null ? null : profileResults.get(conditionID);
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Stores the result of the condition for the rest of the current tick.
+     *
+     * @param profile     the profile the condition was checked for
+     * @param conditionID the checked condition
+     * @param result      the result without inversion
+     */
+    public void put(final Profile profile, final ConditionID conditionID, final boolean result) {
+        results.computeIfAbsent(profile.getProfileUUID(), uuid -> new ConcurrentHashMap<>()).put(conditionID, result);
+    }
+
+    /**
+     * Removes the results of the profile, for example because its tags or points changed.
+     *
+     * @param profile the profile to remove the results for
+     */
+    public void invalidate(final Profile profile) {
+        results.remove(profile.getProfileUUID());
+    }
+
+    /**
+     * Removes all results, for example because global data changed or a new tick started.
+     */
+    public void invalidateAll() {
+        results = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the amount of checks that were answered from the cache.
+     *
+     * @return the amount of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of checks of cacheable conditions that had to be handled.
+     *
+     * @return the amount of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,178 @@
+package org.betonquest.betonquest;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.id.ConditionID;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executes condition checks that are not done on the main thread.
+ * <p>
+ * The checks run on a bounded pool of named threads instead of the common pool of the JVM,
+ * so conditions that wait for the main thread do not block threads that other plugins or parallel streams need.
+ * When the queue is full or the executor was shut down, the check runs on the thread that requested it.
+ * Tasks submitted by a check that already runs on a condition executor, like the conditions of an
+ * {@code or} condition, run directly to not wait for a free thread of the same pool.
+ * <p>
+ * On Java 21 and newer the pool can use virtual threads.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class ConditionExecutor implements Executor {
+    /**
+     * The time in seconds after which idle threads are stopped.
+     */
+    private static final long KEEP_ALIVE_TIME = 60;
+
+    /**
+     * Whether the current thread runs a check of a condition executor.
+     */
+    private static final ThreadLocal<Boolean> CHECKING = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * The pool that runs the checks.
+     */
+    private final ThreadPoolExecutor pool;
+
+    /**
+     * The amount of checks that wait for a thread.
+     */
+    private final AtomicInteger queued;
+
+    /**
+     * The amount of completed checks.
+     */
+    private final LongAdder completed;
+
+    /**
+     * The total time in nanoseconds the completed checks waited for a thread.
+     */
+    private final LongAdder waitTime;
+
+    /**
+     * The total time in nanoseconds the completed checks ran.
+     */
+    private final LongAdder runTime;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param log            the logger to report the used thread type to
+     * @param threads        the maximum amount of threads
+     * @param queueSize      the maximum amount of checks that wait for a thread
+     * @param virtualThreads whether virtual threads should be used if the Java version supports them
+     */
+    public ConditionExecutor(final BetonQuestLogger log, final int threads, final int queueSize, final boolean virtualThreads) {
+        this.queued = new AtomicInteger();
+        this.completed = new LongAdder();
+        this.waitTime = new LongAdder();
+        this.runTime = new LongAdder();
+        final int poolSize = Math.max(1, threads);
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueSize)), createThreadFactory(log, virtualThreads),
+                (runnable, executor) -> runnable.run());
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    private static ThreadFactory createThreadFactory(final BetonQuestLogger log, final boolean virtualThreads) {
+        if (virtualThreads) {
+            if (Runtime.version().feature() >= 21) {
+                try {
+                    final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                    final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                    final Object namedBuilder = builderClass.getMethod("name", String.class, long.class)
+                            .invoke(builder, "BetonQuest-Conditions-", 1L);
+                    log.debug("Using virtual threads to check conditions.");
+                    return (ThreadFactory) builderClass.getMethod("factory").invoke(namedBuilder);
+                } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException
+                               | InvocationTargetException e) {
+                    log.warn("Could not create virtual threads to check conditions, using platform threads: " + e.getMessage(), e);
+                }
+            } else {
+                log.warn("Virtual threads to check conditions require Java 21 or newer, using platform threads.");
+            }
+        }
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "BetonQuest-Conditions-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Checks the condition on this executor.
+     *
+     * @param profile     the profile to check the condition for
+     * @param conditionID the condition to check
+     * @return the future result of the check
+     */
+    public CompletableFuture<Boolean> check(@Nullable final Profile profile, final ConditionID conditionID) {
+        return CompletableFuture.supplyAsync(() -> BetonQuest.condition(profile, conditionID), this);
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (CHECKING.get()) {
+            command.run();
+            return;
+        }
+        final long submitted = System.nanoTime();
+        queued.incrementAndGet();
+        pool.execute(() -> {
+            queued.decrementAndGet();
+            final long started = System.nanoTime();
+            CHECKING.set(true);
+            try {
+                command.run();
+            } finally {
+                CHECKING.set(false);
+                final long finished = System.nanoTime();
+                waitTime.add(started - submitted);
+                runTime.add(finished - started);
+                completed.increment();
+            }
+        });
+    }
+
+    /**
+     * Gets the amount of checks that wait for a thread.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * Gets a summary of the executor usage.
+     *
+     * @return the queue depth, the amount of completed checks and their average wait and run time
+     */
+    public String getStatistics() {
+        final long count = completed.sum();
+        final double averageWait = count == 0 ? 0 : waitTime.sum() / (double) count / 1_000_000;
+        final double averageRun = count == 0 ? 0 : runTime.sum() / (double) count / 1_000_000;
+        return getQueueDepth() + " queued, " + pool.getActiveCount() + " running, " + count + " completed, "
+                + String.format(Locale.ROOT, "%.2f", averageWait) + " ms average wait, "
+                + String.format(Locale.ROOT, "%.2f", averageRun) + " ms average run time";
+    }
+
+    /**
+     * Stops the threads once all queued checks are executed.
+     * Checks requested afterwards run on the requesting thread.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -52,7 +52,7 @@ public class JoinQuitListener implements Listener {
         }
         final Profile profile = PlayerConverter.getID(Bukkit.getOfflinePlayer(event.getUniqueId()));
         final BetonQuest plugin = BetonQuest.getInstance();
-        plugin.putPlayerData(profile, new PlayerData(profile));
+        plugin.putPlayerData(profile, plugin.loadPlayerData(profile));
     }
 
     @EventHandler(ignoreCancelled = true)
@@ -63,7 +63,7 @@ public class JoinQuitListener implements Listener {
         // if the data still isn't loaded, force loading (this happens sometimes
         // probably because AsyncPlayerPreLoginEvent does not fire)
         if (playerData == null) {
-            playerData = new PlayerData(onlineProfile);
+            playerData = BetonQuest.getInstance().loadPlayerData(onlineProfile);
             BetonQuest.getInstance().putPlayerData(onlineProfile, playerData);
             log.warn("Failed to load data for " + onlineProfile + ", forcing.");
         }
@@ -89,11 +89,17 @@ public class JoinQuitListener implements Listener {
         }
     }
 
-    @EventHandler
+    @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerQuit(final PlayerQuitEvent event) {
         final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
+        final PlayerData playerData = BetonQuest.getInstance().getPlayerData(onlineProfile);
         for (final Objective objective : BetonQuest.getInstance().getPlayerObjectives(onlineProfile)) {
+            // keep the paused objectives in the data, as it is handed over to the offline cache
+            final String data = objective.getData(onlineProfile);
             objective.pauseObjectiveForPlayer(onlineProfile);
+            if (playerData != null && data != null) {
+                playerData.addRawObjective(objective.getLabel(), data);
+            }
         }
         BetonQuest.getInstance().removePlayerData(onlineProfile);
     }
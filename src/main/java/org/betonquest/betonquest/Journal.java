@@ -3,8 +3,10 @@ package org.betonquest.betonquest;
 import com.google.common.collect.Lists;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.lang3.StringUtils;
+import org.betonquest.betonquest.api.Objective;
 import org.betonquest.betonquest.api.PlayerJournalAddEvent;
 import org.betonquest.betonquest.api.PlayerJournalDeleteEvent;
+import org.betonquest.betonquest.api.Variable;
 import org.betonquest.betonquest.api.config.ConfigurationFile;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
@@ -18,7 +20,11 @@ import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.utils.Utils;
+import org.betonquest.betonquest.variables.GlobalPointVariable;
 import org.betonquest.betonquest.variables.GlobalVariableResolver;
+import org.betonquest.betonquest.variables.ObjectivePropertyVariable;
+import org.betonquest.betonquest.variables.PointVariable;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
@@ -26,16 +32,22 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BookMeta;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Represents player's journal.
@@ -43,6 +55,16 @@ import java.util.Objects;
 @SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidLiteralsInIfCondition", "PMD.CyclomaticComplexity",
         "PMD.TooManyMethods"})
 public class Journal {
+    /**
+     * Prefix of the dependency key of an objective.
+     */
+    private static final String OBJECTIVE_DEPENDENCY = "objective:";
+
+    /**
+     * Prefix of the dependency key of a point category.
+     */
+    private static final String POINT_DEPENDENCY = "point:";
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -56,6 +78,21 @@ public class Journal {
 
     private final ConfigurationFile config;
 
+    /**
+     * The rendered entries by pointer, reused while they are up to date.
+     */
+    private final Map<String, RenderedEntry> renderedEntries = new HashMap<>();
+
+    /**
+     * The dependency keys of the data that changed since the entries were rendered.
+     */
+    private final Set<String> changedDependencies = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether an update of the journal item is scheduled.
+     */
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+
     private String lang;
 
     private String mainPage;
@@ -189,77 +226,155 @@ public class Journal {
     }
 
     /**
-     * Generates texts for every pointer and places them inside a List
+     * Marks the entries that display data of the objective as outdated.
+     *
+     * @param objectiveID the full ID of the objective that changed
+     */
+    public void invalidateObjective(final String objectiveID) {
+        changedDependencies.add(OBJECTIVE_DEPENDENCY + objectiveID);
+    }
+
+    /**
+     * Marks the entries that display the point category as outdated.
+     *
+     * @param category the full name of the point category that changed
+     */
+    public void invalidatePoint(final String category) {
+        changedDependencies.add(POINT_DEPENDENCY + category.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Generates texts for every pointer and places them inside a List.
+     * <p>
+     * Entries rendered before are reused if the language and the loaded variables did not change
+     * and they do not display data that was invalidated since then.
      *
      * @param lang the language to use while generating text
      */
-    @SuppressWarnings({"PMD.CognitiveComplexity"})
     public void generateTexts(final String lang) {
         // remove previous texts
         texts.clear();
         this.lang = lang;
         // generate the first page
         mainPage = generateMainPage();
+        final Set<String> changed = new HashSet<>(changedDependencies);
+        changedDependencies.removeAll(changed);
+        final int variablesVersion = BetonQuest.getVariablesVersion();
+        final Map<String, RenderedEntry> rendered = new HashMap<>();
+        SimpleDateFormat dateFormat = null;
         for (final Pointer pointer : pointers) {
-            // if date should not be hidden, generate the date prefix
-            String datePrefix = "";
-            if ("false".equalsIgnoreCase(config.getString("journal.hide_date"))) {
-                final String date = new SimpleDateFormat(config.getString("date_format"), Locale.ROOT)
-                        .format(pointer.getTimestamp());
-                final String[] dateParts = date.split(" ");
-                final String day = "§" + config.getString("journal_colors.date.day") + dateParts[0];
-                String hour = "";
-                if (dateParts.length > 1) {
-                    hour = "§" + config.getString("journal_colors.date.hour") + dateParts[1];
+            RenderedEntry entry = renderedEntries.get(pointer.getPointer());
+            if (entry == null || !entry.isValid(lang, variablesVersion, pointer.getTimestamp(), changed)) {
+                if (dateFormat == null && "false".equalsIgnoreCase(config.getString("journal.hide_date"))) {
+                    dateFormat = new SimpleDateFormat(config.getString("date_format"), Locale.ROOT);
                 }
-                datePrefix = day + " " + hour + "\n";
-            }
-            // get package and name of the pointer
-            final String[] parts = pointer.getPointer().split("\\.");
-            final String packName = parts[0];
-            final QuestPackage pack = Config.getPackages().get(packName);
-            if (pack == null) {
-                continue;
-            }
-            final String pointerName = parts[1];
-            // resolve the text in player's language
-            String text;
-            final ConfigurationSection journal = pack.getConfig().getConfigurationSection("journal");
-            if (journal != null && journal.contains(pointerName)) {
-                if (journal.isConfigurationSection(pointerName)) {
-                    text = pack.getFormattedString("journal." + pointerName + "." + lang);
-                    if (text == null) {
-                        text = pack.getFormattedString("journal." + pointerName + "." + Config.getLanguage());
-                    }
-                } else {
-                    text = pack.getFormattedString("journal." + pointerName);
+                entry = renderEntry(pointer, lang, variablesVersion, dateFormat);
+                if (entry == null) {
+                    continue;
                 }
-            } else {
-                log.warn(pack, "No defined journal entry " + pointerName + " in package " + pack.getQuestPath());
-                text = "error";
             }
+            rendered.put(pointer.getPointer(), entry);
+            // add the entry to the list
+            texts.add(entry.text());
+        }
+        renderedEntries.clear();
+        renderedEntries.putAll(rendered);
+    }
+
+    @Nullable
+    private RenderedEntry renderEntry(final Pointer pointer, final String lang, final int variablesVersion,
+                                      @Nullable final SimpleDateFormat dateFormat) {
+        // if date should not be hidden, generate the date prefix
+        String datePrefix = "";
+        if (dateFormat != null) {
+            final String date = dateFormat.format(pointer.getTimestamp());
+            final String[] dateParts = date.split(" ");
+            final String day = "§" + config.getString("journal_colors.date.day") + dateParts[0];
+            String hour = "";
+            if (dateParts.length > 1) {
+                hour = "§" + config.getString("journal_colors.date.hour") + dateParts[1];
+            }
+            datePrefix = day + " " + hour + "\n";
+        }
+        // get package and name of the pointer
+        final String[] parts = pointer.getPointer().split("\\.");
+        final String packName = parts[0];
+        final QuestPackage pack = Config.getPackages().get(packName);
+        if (pack == null) {
+            return null;
+        }
+        final String pointerName = parts[1];
+        String text = getEntryText(pack, pointerName, lang);
 
-            // handle case when the text isn't defined
-            if (text == null) {
-                log.warn(pack, "No text defined for journal entry " + pointerName + " in language " + lang);
-                text = "error";
+        // resolve variables
+        Set<String> dependencies = new HashSet<>();
+        for (final String variable : BetonQuest.resolveVariables(text)) {
+            Variable resolved = null;
+            try {
+                resolved = BetonQuest.createVariable(pack, variable);
+            } catch (final InstructionParseException e) {
+                log.warn(pack, "Error while creating variable '" + variable + "' on journal page '" + pointerName + "' in "
+                        + profile + " journal: " + e.getMessage(), e);
+            }
+            final String dependency = getDependency(resolved);
+            if (dependency == null) {
+                dependencies = null;
+            } else if (dependencies != null) {
+                dependencies.add(dependency);
             }
+            text = text.replace(variable,
+                    BetonQuest.getInstance().getVariableValue(packName, variable, profile));
+        }
+
+        return new RenderedEntry(lang, variablesVersion, pointer.getTimestamp(),
+                datePrefix + "§" + config.getString("journal_colors.text") + text, dependencies);
+    }
 
-            // resolve variables
-            for (final String variable : BetonQuest.resolveVariables(text)) {
-                try {
-                    BetonQuest.createVariable(pack, variable);
-                } catch (final InstructionParseException e) {
-                    log.warn(pack, "Error while creating variable '" + variable + "' on journal page '" + pointerName + "' in "
-                            + profile + " journal: " + e.getMessage(), e);
+    private String getEntryText(final QuestPackage pack, final String pointerName, final String lang) {
+        // resolve the text in player's language
+        String text;
+        final ConfigurationSection journal = pack.getConfig().getConfigurationSection("journal");
+        if (journal != null && journal.contains(pointerName)) {
+            if (journal.isConfigurationSection(pointerName)) {
+                text = pack.getFormattedString("journal." + pointerName + "." + lang);
+                if (text == null) {
+                    text = pack.getFormattedString("journal." + pointerName + "." + Config.getLanguage());
                 }
-                text = text.replace(variable,
-                        BetonQuest.getInstance().getVariableValue(packName, variable, profile));
+            } else {
+                text = pack.getFormattedString("journal." + pointerName);
             }
+        } else {
+            log.warn(pack, "No defined journal entry " + pointerName + " in package " + pack.getQuestPath());
+            text = "error";
+        }
 
-            // add the entry to the list
-            texts.add(datePrefix + "§" + config.getString("journal_colors.text") + text);
+        // handle case when the text isn't defined
+        if (text == null) {
+            log.warn(pack, "No text defined for journal entry " + pointerName + " in language " + lang);
+            text = "error";
         }
+        return text;
+    }
+
+    /**
+     * Gets the data a variable displays, if it is known.
+     *
+     * @param variable the variable or null if it could not be created
+     * @return the dependency key or null if the variable can display any data
+     */
+    @Nullable
+    private static String getDependency(@Nullable final Variable variable) {
+        if (variable instanceof final ObjectivePropertyVariable objectiveVariable && objectiveVariable.getObjective() != null) {
+            final Objective objective = BetonQuest.getInstance().getObjective(objectiveVariable.getObjective());
+            if (objective == null || !objective.hasDataBoundProperties()) {
+                return null;
+            }
+            return OBJECTIVE_DEPENDENCY + objectiveVariable.getObjective().getFullID();
+        }
+        if (variable instanceof final PointVariable pointVariable && !(variable instanceof GlobalPointVariable)) {
+            return POINT_DEPENDENCY + pointVariable.getCategory().toLowerCase(Locale.ROOT);
+        }
+        return null;
     }
 
     /**
@@ -367,6 +482,7 @@ public class Journal {
     public void clear() {
         texts.clear();
         pointers.clear();
+        renderedEntries.clear();
     }
 
     /**
@@ -475,6 +591,27 @@ public class Journal {
         }
     }
 
+    /**
+     * Updates the journal after the configured {@code journal.update_delay} in ticks.
+     * Further calls until then do not schedule another update, so a burst of changes
+     * causes only one update.
+     */
+    public void scheduleUpdate() {
+        final long delay = config.getLong("journal.update_delay");
+        if (delay <= 0) {
+            update();
+            return;
+        }
+        if (updateScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTaskLater(BetonQuest.getInstance(), () -> {
+                updateScheduled.set(false);
+                if (profile.getOnlineProfile().isPresent()) {
+                    update();
+                }
+            }, delay);
+        }
+    }
+
     /**
      * Removes journal from player's inventory.
      *
@@ -491,4 +628,22 @@ public class Journal {
         }
         return -1;
     }
+
+    /**
+     * A rendered journal entry.
+     *
+     * @param lang             the language the entry was rendered in
+     * @param variablesVersion the version of the loaded variables when the entry was rendered
+     * @param timestamp        the timestamp of the pointer
+     * @param text             the rendered text
+     * @param dependencies     the dependency keys of the displayed data,
+     *                         null if the entry displays data that is not tracked
+     */
+    private record RenderedEntry(String lang, int variablesVersion, long timestamp, String text,
+                                 @Nullable Set<String> dependencies) {
+        private boolean isValid(final String lang, final int variablesVersion, final long timestamp, final Set<String> changed) {
+            return dependencies != null && this.variablesVersion == variablesVersion && this.timestamp == timestamp
+                    && this.lang.equals(lang) && Collections.disjoint(dependencies, changed);
+        }
+    }
 }
@@ -146,6 +146,15 @@ public class VariableNumber {
         return variable == null && number < 1;
     }
 
+    /**
+     * Checks if no variable is set, so the value is the same for every player.
+     *
+     * @return true if the value does not depend on a variable
+     */
+    public boolean isConstant() {
+        return variable == null;
+    }
+
     @Override
     public String toString() {
         return variable == null ? String.valueOf(number) : variable.toString();
@@ -1,17 +1,34 @@
 package org.betonquest.betonquest;
 
+import org.betonquest.betonquest.api.Variable;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Represents a string that can contain variables.
  * Makes handling instructions with variables easier.
+ * <p>
+ * The string is compiled into literal segments and references to the {@link Variable}s between them,
+ * so resolving it does not need to look up the variables again.
+ * The references are recreated when the variables are reloaded.
  */
 public class VariableString {
+    /**
+     * The pattern of a variable in the string.
+     */
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("%[^ %\\s]+%");
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log = BetonQuest.getInstance().getLoggerFactory().create(getClass());
 
     /**
      * The string that may contain variables.
@@ -19,15 +36,27 @@ public class VariableString {
     private final String string;
 
     /**
-     * The list of variables in the string.
+     * The literal segments of the string. The variable at index {@code i} is placed
+     * between the literals at index {@code i} and {@code i + 1}.
+     */
+    private final String[] literals;
+
+    /**
+     * The variables in the string in order of appearance, including duplicates.
      */
-    private final List<String> variables = new ArrayList<>();
+    private final String[] variableNames;
 
     /**
      * The package in which the string is defined.
      */
     private final QuestPackage questPackage;
 
+    /**
+     * The compiled variable references.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile CompiledVariables compiled;
+
     /**
      * Creates a new VariableString.<br>
      * Does not replace underscores.
@@ -59,16 +88,49 @@ public class VariableString {
             this.string = string;
         }
 
-        for (final String variable : BetonQuest.resolveVariables(this.string)) {
+        final List<String> literalList = new ArrayList<>();
+        final List<String> variableList = new ArrayList<>();
+        final Matcher matcher = VARIABLE_PATTERN.matcher(this.string);
+        int literalStart = 0;
+        while (matcher.find()) {
+            literalList.add(this.string.substring(literalStart, matcher.start()));
+            variableList.add(matcher.group());
+            literalStart = matcher.end();
+        }
+        literalList.add(this.string.substring(literalStart));
+        this.literals = literalList.toArray(new String[0]);
+        this.variableNames = variableList.toArray(new String[0]);
+        this.compiled = compile();
+    }
+
+    private CompiledVariables compile() throws InstructionParseException {
+        final int version = BetonQuest.getVariablesVersion();
+        final Variable[] variables = new Variable[variableNames.length];
+        for (int i = 0; i < variableNames.length; i++) {
             try {
-                BetonQuest.createVariable(questPackage, variable);
+                variables[i] = BetonQuest.createVariable(questPackage, variableNames[i]);
             } catch (final InstructionParseException exception) {
-                throw new InstructionParseException("Could not create '" + variable + "' variable: "
+                throw new InstructionParseException("Could not create '" + variableNames[i] + "' variable: "
                         + exception.getMessage(), exception);
             }
-            if (!variables.contains(variable)) {
-                variables.add(variable);
-            }
+        }
+        return new CompiledVariables(version, variables);
+    }
+
+    private CompiledVariables getCompiled() {
+        final CompiledVariables current = compiled;
+        if (current.version() == BetonQuest.getVariablesVersion()) {
+            return current;
+        }
+        try {
+            final CompiledVariables recompiled = compile();
+            compiled = recompiled;
+            return recompiled;
+        } catch (final InstructionParseException e) {
+            log.warn(questPackage, "Could not recreate variables of '" + string + "': " + e.getMessage(), e);
+            final CompiledVariables empty = new CompiledVariables(BetonQuest.getVariablesVersion(), new Variable[variableNames.length]);
+            compiled = empty;
+            return empty;
         }
     }
 
@@ -79,12 +141,27 @@ public class VariableString {
      * @return the string with all variables resolved
      */
     public String getString(final Profile profile) {
-        String resolvedString = string;
-        for (final String variable : variables) {
-            final String resolvedVariable = BetonQuest.getInstance().getVariableValue(questPackage.getQuestPath(), variable, profile);
-            resolvedString = resolvedString.replace(variable, resolvedVariable);
+        if (variableNames.length == 0) {
+            return string;
+        }
+        final Variable[] variables = getCompiled().variables();
+        final StringBuilder resolved = new StringBuilder(string.length());
+        for (int i = 0; i < variables.length; i++) {
+            resolved.append(literals[i]).append(resolveVariable(variables[i], variableNames[i], profile));
+        }
+        return resolved.append(literals[variables.length]).toString();
+    }
+
+    private String resolveVariable(final Variable variable, final String name, final Profile profile) {
+        if (variable == null) {
+            log.warn(questPackage, "Could not resolve variable '" + name + "'.");
+            return "";
+        }
+        if (profile == null && !variable.isStaticness()) {
+            log.warn(questPackage, "Variable '" + name + "' cannot be executed without a profile reference!");
+            return "";
         }
-        return resolvedString;
+        return variable.getValue(profile);
     }
 
     /**
@@ -93,6 +170,15 @@ public class VariableString {
      * @return true if the string contains variables
      */
     public boolean containsVariables() {
-        return !variables.isEmpty();
+        return variableNames.length > 0;
+    }
+
+    /**
+     * The variable references of a string.
+     *
+     * @param version   the version of the loaded variables the references were created with
+     * @param variables the variables in order of appearance, null entries could not be created
+     */
+    private record CompiledVariables(int version, Variable[] variables) {
     }
 }
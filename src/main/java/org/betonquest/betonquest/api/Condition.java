@@ -36,6 +36,13 @@ public abstract class Condition extends ForceSyncHandler<Boolean> {
      */
     protected boolean persistent;
 
+    /**
+     * If a condition is cacheable its result only depends on data whose changes invalidate
+     * the {@link org.betonquest.betonquest.ConditionCache ConditionCache}, like tags and points.
+     * The result of a cacheable condition is reused for the rest of the tick.
+     */
+    protected boolean cacheable;
+
     /**
      * Creates new instance of the condition. The condition should parse
      * instruction string at this point and extract all the data from it. If
@@ -74,6 +81,14 @@ public abstract class Condition extends ForceSyncHandler<Boolean> {
         return persistent;
     }
 
+    /**
+     * @return if the condition is cacheable or not. If a condition is cacheable its result is
+     * reused when it is checked again for the same {@link Profile} in the same tick.
+     */
+    public final boolean isCacheable() {
+        return cacheable;
+    }
+
     /**
      * This method should contain all logic for the condition and use data
      * parsed by the constructor. Don't worry about inverting the condition,
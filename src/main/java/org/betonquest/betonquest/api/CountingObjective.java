@@ -72,6 +72,11 @@ public abstract class CountingObjective extends Objective {
         return value > 0 ? String.valueOf(value) : "1";
     }
 
+    @Override
+    public boolean hasDataBoundProperties() {
+        return true;
+    }
+
     @Override
     public String getProperty(final String name, final Profile profile) {
         final Integer data = switch (name.toLowerCase(Locale.ROOT)) {
@@ -3,10 +3,12 @@ package org.betonquest.betonquest.api;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.GlobalObjectives;
 import org.betonquest.betonquest.Instruction;
+import org.betonquest.betonquest.Journal;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.config.Config;
+import org.betonquest.betonquest.database.PlayerData;
 import org.betonquest.betonquest.database.Saver;
 import org.betonquest.betonquest.database.UpdateType;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
@@ -186,6 +188,18 @@ public abstract class Objective {
      */
     public abstract String getProperty(String name, Profile profile);
 
+    /**
+     * Checks whether the properties of this objective only change together with the data of a profile,
+     * which is announced by {@link ObjectiveData#update()}.
+     * Objectives whose properties depend on the time or the state of the world must return false,
+     * so the journal renders them every time. By default, it returns false.
+     *
+     * @return true if the properties only change with the objective data
+     */
+    public boolean hasDataBoundProperties() {
+        return false;
+    }
+
     /**
      * This method fires events for the objective and removes it from the profile's
      * list of active objectives. Use it when you detect that the objective has
@@ -201,14 +215,14 @@ public abstract class Objective {
             createObjectiveForPlayer(profile, getDefaultDataInstruction(profile));
         }
         log.debug(instruction.getPackage(),
-                "Objective \"" + instruction.getID().getFullID() + "\" has been completed for "
+                () -> "Objective \"" + instruction.getID().getFullID() + "\" has been completed for "
                         + profile + ", firing events.");
         // fire all events
         for (final EventID event : events) {
             BetonQuest.event(profile, event);
         }
         log.debug(instruction.getPackage(),
-                "Firing events in objective \"" + instruction.getID().getFullID() + "\" for "
+                () -> "Firing events in objective \"" + instruction.getID().getFullID() + "\" for "
                         + profile + " finished");
     }
 
@@ -221,7 +235,7 @@ public abstract class Objective {
      * @return if all conditions of this objective has been met
      */
     public final boolean checkConditions(final Profile profile) {
-        log.debug(instruction.getPackage(), "Condition check in \"" + instruction.getID().getFullID()
+        log.debug(instruction.getPackage(), () -> "Condition check in \"" + instruction.getID().getFullID()
                 + "\" objective for " + profile);
         return BetonQuest.conditions(profile, conditions);
     }
@@ -393,15 +407,26 @@ public abstract class Objective {
             start();
         }
         dataMap.put(profile, data);
+        BetonQuest.getInstance().getActiveObjectiveIndex().add(profile, this);
         start(profile);
+        invalidateJournal(profile);
     }
 
     private void deactivateObjective(final Profile profile) {
         stop(profile);
         dataMap.remove(profile);
+        BetonQuest.getInstance().getActiveObjectiveIndex().remove(profile, this);
         if (dataMap.isEmpty()) {
             stop();
         }
+        invalidateJournal(profile);
+    }
+
+    private void invalidateJournal(final Profile profile) {
+        final PlayerData playerData = BetonQuest.getInstance().getPlayerData(profile);
+        if (playerData != null) {
+            playerData.invalidateJournalObjective(instruction.getID().getFullID());
+        }
     }
 
     /**
@@ -458,6 +483,7 @@ public abstract class Objective {
         for (final Map.Entry<Profile, ObjectiveData> entry : dataMap.entrySet()) {
             final Profile profile = entry.getKey();
             stop(profile);
+            BetonQuest.getInstance().getActiveObjectiveIndex().remove(profile, this);
             BetonQuest.getInstance().getPlayerData(profile).addRawObjective(instruction.getID().getFullID(),
                     entry.getValue().toString());
         }
@@ -574,7 +600,9 @@ public abstract class Objective {
             server.getScheduler().runTask(BetonQuest.getInstance(), () -> server.getPluginManager().callEvent(event));
             // update the journal so all possible variables display correct
             // information
-            BetonQuest.getInstance().getPlayerData(profile).getJournal().update();
+            final Journal journal = BetonQuest.getInstance().getPlayerData(profile).getJournal();
+            journal.invalidateObjective(objID);
+            journal.scheduleUpdate();
         }
 
     }
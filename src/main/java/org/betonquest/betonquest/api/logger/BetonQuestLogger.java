@@ -4,6 +4,7 @@ import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginLogger;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
@@ -71,6 +72,41 @@ public interface BetonQuestLogger {
      */
     void debug(QuestPackage pack, String msg, Throwable thrown);
 
+    /**
+     * Checks whether debug messages of the package are currently consumed, for example by the debug log or
+     * a player that watches the package in the chat.
+     * <p>
+     * Use this to skip expensive work that is only needed for debug messages.
+     *
+     * @param pack The related {@link QuestPackage} or null.
+     * @return true if debug messages of the package are logged.
+     */
+    boolean isDebugEnabled(QuestPackage pack);
+
+    /**
+     * Logs a debug message with the {@link Level#FINE} level to the log.
+     * The message is only created if debug messages are consumed and only when it is needed.
+     * <p>
+     * Use this for debug log information in frequently called code.
+     * <p>
+     * Don't use this method, if you can provide a {@link QuestPackage}.
+     * Use {@link BetonQuestLogger#debug(QuestPackage, Supplier)} instead.
+     *
+     * @param msg The supplier of the message to log.
+     */
+    void debug(Supplier<String> msg);
+
+    /**
+     * Logs a debug message with the {@link Level#FINE} level to the log.
+     * The message is only created if debug messages of the package are consumed and only when it is needed.
+     * <p>
+     * Use this for debug log information in frequently called code.
+     *
+     * @param pack The related {@link QuestPackage} or null.
+     * @param msg  The supplier of the message to log.
+     */
+    void debug(QuestPackage pack, Supplier<String> msg);
+
     /**
      * Logs a normal message with the {@link Level#INFO} level to the log.
      * <p>
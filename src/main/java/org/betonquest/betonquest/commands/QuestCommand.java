@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.commands;
 
+import com.google.common.cache.CacheStats;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import net.kyori.adventure.text.Component;
@@ -526,7 +527,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         // list
         if (playerData == null) {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         // purge the player
         log.debug("Purging player " + args[1]);
@@ -558,7 +559,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         // list
         if (playerData == null) {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         final Journal journal = playerData.getJournal();
         // if there are no arguments then list player's pointers
@@ -656,7 +657,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         // list
         if (playerData == null) {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         // if there are no arguments then list player's points
         if (args.length < 3 || "list".equalsIgnoreCase(args[2]) || "l".equalsIgnoreCase(args[2])) {
@@ -987,7 +988,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         // list
         if (playerData == null) {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         // if there are no arguments then list player's tags
         if (args.length < 3 || "list".equalsIgnoreCase(args[2]) || "l".equalsIgnoreCase(args[2])) {
@@ -1143,7 +1144,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         // if the player is offline then get his PlayerData outside the list
         if (playerData == null) {
             log.debug("Profile is offline, loading his data");
-            playerData = new PlayerData(profile);
+            playerData = instance.getOfflinePlayerData(profile);
         }
         // if there are no arguments then list player's objectives
         if (args.length < 3 || "list".equalsIgnoreCase(args[2]) || "l".equalsIgnoreCase(args[2])) {
@@ -1659,6 +1660,10 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
                     "§2Debugging mode is currently " + (debuggingController.isLogging() ? "enabled" : "disabled") + '!');
             return;
         }
+        if ("stats".equalsIgnoreCase(args[1])) {
+            sendStatistics(sender);
+            return;
+        }
         if ("ingame".equalsIgnoreCase(args[1])) {
             if (!(sender instanceof Player)) {
                 log.debug("Cannot continue, sender must be player");
@@ -1712,6 +1717,19 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         sendMessage(sender, "unknown_argument");
     }
 
+    /**
+     * Sends the runtime statistics of the caches to the sender.
+     *
+     * @param sender the sender of the command
+     */
+    private void sendStatistics(final CommandSender sender) {
+        final CacheStats offlineStats = instance.getOfflinePlayerDataCache().getStats();
+        sender.sendMessage("§2Offline player data cache: §a" + instance.getOfflinePlayerDataCache().size() + " entries, "
+                + offlineStats.hitCount() + " hits, " + offlineStats.missCount() + " misses, "
+                + String.format(Locale.ROOT, "%.1f", offlineStats.hitRate() * 100) + "% hit rate");
+        instance.getDebugStatistics().forEach((name, statistic) -> sender.sendMessage("§2" + name + ": §a" + statistic.get()));
+    }
+
     @SuppressWarnings({"PMD.AvoidCatchingGenericException", "PMD.SwitchStmtsShouldHaveDefault"})
     private void handleDownload(final CommandSender sender, final String... args) {
         if (args.length < 5) {
@@ -1818,7 +1836,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
 
     private Optional<List<String>> completeDebug(final String... args) {
         if (args.length == 2) {
-            return Optional.of(Arrays.asList("true", "false", "ingame"));
+            return Optional.of(Arrays.asList("true", "false", "ingame", "stats"));
         }
         if (args.length == 3) {
             return completePackage();
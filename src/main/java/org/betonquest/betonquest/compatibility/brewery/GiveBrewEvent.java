@@ -1,6 +1,7 @@
 package org.betonquest.betonquest.compatibility.brewery;
 
 import com.dre.brewery.recipe.BRecipe;
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.Instruction;
 import org.betonquest.betonquest.api.QuestEvent;
 import org.betonquest.betonquest.api.profiles.Profile;
@@ -61,6 +62,7 @@ public class GiveBrewEvent extends QuestEvent {
         for (final ItemStack item : remaining) {
             player.getWorld().dropItem(player.getLocation(), item);
         }
+        BetonQuest.getInstance().getItemCountIndex().invalidate(player.getUniqueId());
         return null;
     }
 }
@@ -3,6 +3,7 @@ package org.betonquest.betonquest.compatibility.brewery;
 import com.dre.brewery.Brew;
 import com.dre.brewery.recipe.BRecipe;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.Instruction;
 import org.betonquest.betonquest.api.QuestEvent;
 import org.betonquest.betonquest.api.profiles.Profile;
@@ -65,6 +66,7 @@ public class TakeBrewEvent extends QuestEvent {
             }
         }
         player.updateInventory();
+        BetonQuest.getInstance().getItemCountIndex().invalidate(player.getUniqueId());
         return null;
     }
 }
@@ -10,7 +10,6 @@ import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
-import org.betonquest.betonquest.utils.PlayerConverter;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 
@@ -18,10 +17,16 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @SuppressWarnings("PMD.CommentRequired")
 public class NPCRangeObjective extends Objective {
+    /**
+     * The amount of bits to shift a block coordinate to get the chunk coordinate.
+     */
+    private static final int CELL_SHIFT = 4;
+
     private final List<Integer> npcIds;
 
     private final Trigger trigger;
@@ -66,32 +71,83 @@ public class NPCRangeObjective extends Objective {
     }
 
     private void loop() throws QuestRuntimeException {
-        final ArrayList<UUID> profilesInside = new ArrayList<>();
+        final Map<UUID, Map<Long, List<Location>>> npcCells = indexNpcLocations();
+        for (final Profile profile : new ArrayList<>(dataMap.keySet())) {
+            final Optional<OnlineProfile> onlineProfile = profile.getOnlineProfile();
+            if (onlineProfile.isPresent()) {
+                checkPlayer(profile.getProfileUUID(), profile, isInside(onlineProfile.get(), npcCells));
+            }
+        }
+    }
+
+    /**
+     * Indexes the current locations of the NPCs by world and chunk, so a player is only compared to the NPCs
+     * in the chunks around them. The index is rebuilt on every check and therefore follows moving and despawned NPCs.
+     *
+     * @return the NPC locations by world UUID and chunk key
+     * @throws QuestRuntimeException if an NPC does not exist
+     */
+    private Map<UUID, Map<Long, List<Location>>> indexNpcLocations() throws QuestRuntimeException {
+        final Map<UUID, Map<Long, List<Location>>> npcCells = new HashMap<>();
         for (final int npcId : npcIds) {
             final NPC npc = CitizensAPI.getNPCRegistry().getById(npcId);
             if (npc == null) {
                 throw new QuestRuntimeException("NPC with ID " + npcId + " does not exist");
             }
-            for (final OnlineProfile onlineProfile : PlayerConverter.getOnlineProfiles()) {
-                if (!profilesInside.contains(onlineProfile.getProfileUUID()) && isInside(onlineProfile, npc.getStoredLocation())) {
-                    profilesInside.add(onlineProfile.getProfileUUID());
-                }
+            final Location location = npc.getStoredLocation();
+            if (location == null || location.getWorld() == null) {
+                continue;
             }
+            npcCells.computeIfAbsent(location.getWorld().getUID(), world -> new HashMap<>())
+                    .computeIfAbsent(cellKey(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT),
+                            key -> new ArrayList<>())
+                    .add(location);
         }
-        for (final OnlineProfile onlineProfile : PlayerConverter.getOnlineProfiles()) {
-            checkPlayer(onlineProfile.getProfileUUID(), onlineProfile, profilesInside.contains(onlineProfile.getProfileUUID()));
-        }
+        return npcCells;
     }
 
-    private boolean isInside(final OnlineProfile onlineProfile, final Location location) throws QuestRuntimeException {
-        if (!containsPlayer(onlineProfile) || !location.getWorld().equals(onlineProfile.getPlayer().getWorld())) {
+    private static long cellKey(final int cellX, final int cellZ) {
+        return (long) cellX << 32 | cellZ & 0xFFFF_FFFFL;
+    }
+
+    private boolean isInside(final OnlineProfile onlineProfile, final Map<UUID, Map<Long, List<Location>>> npcCells)
+            throws QuestRuntimeException {
+        final Location playerLocation = onlineProfile.getPlayer().getLocation();
+        final Map<Long, List<Location>> worldCells = npcCells.get(playerLocation.getWorld().getUID());
+        if (worldCells == null) {
             return false;
         }
         final double radius = this.radius.getDouble(onlineProfile);
-        final double distanceSqrd = location.distanceSquared(onlineProfile.getPlayer().getLocation());
         final double radiusSqrd = radius * radius;
+        final int cellRadius = (int) Math.ceil(radius / (1 << CELL_SHIFT));
+        if ((2L * cellRadius + 1) * (2L * cellRadius + 1) > worldCells.size()) {
+            for (final List<Location> locations : worldCells.values()) {
+                if (isAnyInside(locations, playerLocation, radiusSqrd)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        final int cellX = playerLocation.getBlockX() >> CELL_SHIFT;
+        final int cellZ = playerLocation.getBlockZ() >> CELL_SHIFT;
+        for (int x = cellX - cellRadius; x <= cellX + cellRadius; x++) {
+            for (int z = cellZ - cellRadius; z <= cellZ + cellRadius; z++) {
+                final List<Location> locations = worldCells.get(cellKey(x, z));
+                if (locations != null && isAnyInside(locations, playerLocation, radiusSqrd)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 
-        return distanceSqrd <= radiusSqrd;
+    private boolean isAnyInside(final List<Location> locations, final Location playerLocation, final double radiusSqrd) {
+        for (final Location location : locations) {
+            if (location.distanceSquared(playerLocation) <= radiusSqrd) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.CognitiveComplexity"})
@@ -2,6 +2,7 @@ package org.betonquest.betonquest.compatibility.holograms;
 
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
+import org.betonquest.betonquest.compatibility.holograms.lines.TopXObject;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
@@ -74,13 +75,14 @@ public final class HologramRunner {
     }
 
     /**
-     * Cancels hologram updating loop and removes all BetonQuest-registered holograms.
+     * Cancels hologram updating loop and removes all BetonQuest-registered holograms and shared rankings.
      */
     public static void cancel() {
         for (final HologramRunner hologramRunner : RUNNERS.values()) {
             hologramRunner.cancelRunner();
         }
         RUNNERS.clear();
+        TopXObject.clearShared();
     }
 
     /**
@@ -4,6 +4,7 @@ import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.compatibility.holograms.BetonHologram;
 
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Creates a new instance for TopLine.
@@ -31,7 +32,7 @@ public class TopLine extends AbstractLine {
     private final TopXObject topXObject;
 
     /**
-     * Creates a new instance of ItemLine. Automatically creates and stores {@link TopXObject} from received data.
+     * Creates a new instance of ItemLine. Automatically gets the shared {@link TopXObject} for the received data.
      *
      * @param category  Name of point as <code>package.name</code>
      * @param orderType Direction of order
@@ -45,28 +46,26 @@ public class TopLine extends AbstractLine {
         this.orderType = orderType;
         this.colors = colors.clone();
 
-        topXObject = new TopXObject(
-                loggerFactory.create(TopXObject.class), limit,
-                category,
-                orderType);
+        topXObject = TopXObject.getShared(loggerFactory, limit, category, orderType);
     }
 
     /**
-     * Updates the stored {@link TopXObject} and returns found entries as String-Array.
+     * Requests a refresh of the stored {@link TopXObject} and returns the last found entries as String-Array.
      * If retrieved lines are less than the limit, it will be filled with empty lines.
      *
      * @return Formatted lines ready for display on a hologram
      */
     public String[] getLines() {
-        topXObject.queryDB();
+        topXObject.refresh();
+        final List<TopXLine> entries = topXObject.getEntries();
 
         final String[] lines = new String[linesAdded];
         for (int i = 0; i < linesAdded; i++) {
-            if (i >= topXObject.getLineCount()) {
+            if (i >= entries.size()) {
                 lines[i] = "";
                 continue;
             }
-            final TopXLine line = topXObject.getEntries().get(i);
+            final TopXLine line = entries.get(i);
             lines[i] = "§" + colors[0] + (i + 1) + ". §" + colors[1] + line.playerName() + "§" + colors[2] + " - §" + colors[3] + line.count();
         }
         return lines;
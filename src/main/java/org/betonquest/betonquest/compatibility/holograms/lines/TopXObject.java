@@ -1,29 +1,48 @@
 package org.betonquest.betonquest.compatibility.holograms.lines;
 
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.database.Connector;
 import org.betonquest.betonquest.database.QueryType;
 import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Holds data of a ranking.
+ * <p>
+ * The ranking of a category and order is shared by all holograms displaying it and queried asynchronously.
+ * The main thread only swaps in the entries of a finished query, so displaying the ranking never waits for the database.
  */
 public class TopXObject {
     /**
-     * Custom {@link BetonQuestLogger} instance for this class.
+     * Minimum time in milliseconds between two queries of the same ranking.
      */
-    private final BetonQuestLogger log;
+    private static final long MIN_REFRESH_INTERVAL = 1000;
 
     /**
-     * Number of lines stored in maximum.
+     * Shared rankings by category and order.
+     */
+    private static final Map<String, TopXObject> RANKINGS = new ConcurrentHashMap<>();
+
+    /**
+     * Cached names of the players that appeared in a ranking.
      */
-    private final int limit;
+    private static final Map<UUID, String> PLAYER_NAMES = new ConcurrentHashMap<>();
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
 
     /**
      * Name of BetonQuest point.
@@ -36,9 +55,27 @@ public class TopXObject {
     private final OrderType orderType;
 
     /**
-     * Entries of last database request. Will not exceed {@link #limit}.
+     * Whether a query is currently running.
+     */
+    private final AtomicBoolean querying = new AtomicBoolean();
+
+    /**
+     * Number of lines stored in maximum.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile int limit;
+
+    /**
+     * Time in epoch milliseconds when the last query was started.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile long lastQuery;
+
+    /**
+     * Entries of last finished database request. Will not exceed {@link #limit}.
      */
-    private final List<TopXLine> entries = new ArrayList<>();
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile List<TopXLine> entries = List.of();
 
     /**
      * Creates new instance of TopXObject.
@@ -55,35 +92,96 @@ public class TopXObject {
         this.orderType = orderType;
     }
 
+    /**
+     * Gets the shared ranking of the category in the order and makes sure it contains at least the given amount of lines.
+     * A newly created ranking is queried immediately.
+     *
+     * @param loggerFactory the logger factory to create the logger of a new ranking
+     * @param limit         Number of lines
+     * @param category      Name of point
+     * @param orderType     Direction of order
+     * @return the shared ranking
+     */
+    public static TopXObject getShared(final BetonQuestLoggerFactory loggerFactory, final int limit, final String category,
+                                       final OrderType orderType) {
+        final TopXObject ranking = RANKINGS.computeIfAbsent(category + '|' + orderType,
+                key -> new TopXObject(loggerFactory.create(TopXObject.class), limit, category, orderType));
+        synchronized (ranking) {
+            if (ranking.limit < limit) {
+                ranking.limit = limit;
+                ranking.lastQuery = 0;
+            }
+        }
+        ranking.refresh();
+        return ranking;
+    }
+
+    /**
+     * Removes all shared rankings and cached player names.
+     */
+    public static void clearShared() {
+        RANKINGS.clear();
+        PLAYER_NAMES.clear();
+    }
+
     public List<TopXLine> getEntries() {
         return entries;
     }
 
     /**
-     * Updates the currently stored entries with data from the database.
+     * Starts an asynchronous query of the entries if no query is running and the last one is not too recent.
+     * The entries are replaced on the main thread when the query is finished.
      */
-    public void queryDB() {
-        entries.clear();
-        final Connector con = new Connector();
+    public void refresh() {
+        final long now = System.currentTimeMillis();
+        if (now - lastQuery < MIN_REFRESH_INTERVAL || !querying.compareAndSet(false, true)) {
+            return;
+        }
+        lastQuery = now;
+        final Plugin plugin = BetonQuest.getInstance();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                final List<TopXLine> result = queryDB();
+                if (plugin.isEnabled()) {
+                    Bukkit.getScheduler().runTask(plugin, () -> entries = result);
+                }
+            } finally {
+                querying.set(false);
+            }
+        });
+    }
 
-        try (ResultSet resultSet = con.querySQL(orderType.getType(), statement -> {
-            statement.setString(1, category);
-            statement.setInt(2, limit);
-        })) {
+    /**
+     * Queries the current entries from the database.
+     *
+     * @return the entries, empty if the query failed
+     */
+    public List<TopXLine> queryDB() {
+        final List<TopXLine> result = new ArrayList<>();
+        try (Connector con = new Connector();
+             ResultSet resultSet = con.querySQL(orderType.getType(), statement -> {
+                 statement.setString(1, category);
+                 statement.setInt(2, limit);
+             })) {
             while (resultSet.next()) {
-                final String playerName = Bukkit.getOfflinePlayer(UUID.fromString(resultSet.getString("playerID"))).getName();
-                entries.add(new TopXLine(playerName, resultSet.getLong("count")));
+                final UUID playerID = UUID.fromString(resultSet.getString("playerID"));
+                final String playerName = PLAYER_NAMES.computeIfAbsent(playerID, uuid -> {
+                    final String name = Bukkit.getOfflinePlayer(uuid).getName();
+                    return name == null ? uuid.toString() : name;
+                });
+                result.add(new TopXLine(playerName, resultSet.getLong("count")));
             }
         } catch (final SQLException e) {
             log.error("There was an SQL exception while querying the top " + limit, e);
         }
+        return List.copyOf(result);
     }
 
     /**
      * Returns the number of lines actually retrieved from the database. May differ from {@link #limit} when not enough
      * players have had alterations to that point made. Can be 0 under the following circumstances:
      * <ul>
-     *     <li>{@link #queryDB()} has not been called on this object</li>
+     *     <li>No query of this object has finished yet</li>
      *     <li>No player has had alterations to the specified point</li>
      *     <li>Specified point does not exist</li>
      * </ul>
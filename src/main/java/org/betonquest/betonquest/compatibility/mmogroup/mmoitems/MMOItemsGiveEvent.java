@@ -100,6 +100,7 @@ public class MMOItemsGiveEvent extends QuestEvent {
             }
             amount -= stackSize;
         }
+        BetonQuest.getInstance().getItemCountIndex().invalidate(player.getUniqueId());
         return null;
     }
 }
@@ -51,7 +51,7 @@ public class MMOItemsItemCondition extends Condition {
             }
         }
 
-        final List<ItemStack> backpackItems = BetonQuest.getInstance().getPlayerData(profile).getBackpack();
+        final List<ItemStack> backpackItems = BetonQuest.getInstance().getPlayerData(profile).getBackpackView();
         for (final ItemStack item : backpackItems) {
             if (MMOItemsUtils.equalsMMOItem(item, itemType, itemID)) {
                 counter = counter + item.getAmount();
@@ -18,9 +18,15 @@ public class BetonQuestPlaceholder extends PlaceholderExpansion {
      */
     private final BetonQuestLogger log;
 
-    public BetonQuestPlaceholder(final BetonQuestLogger log) {
+    /**
+     * The cache of resolved values.
+     */
+    private final PlaceholderCache cache;
+
+    public BetonQuestPlaceholder(final BetonQuestLogger log, final PlaceholderCache cache) {
         super();
         this.log = log;
+        this.cache = cache;
     }
 
     /**
@@ -92,7 +98,14 @@ public class BetonQuestPlaceholder extends PlaceholderExpansion {
             pack = identifier.substring(0, index);
             placeholderIdentifier = identifier.substring(index + 1);
         }
-        final OnlineProfile onlineProfile = player == null ? null : PlayerConverter.getID(player);
-        return BetonQuest.getInstance().getVariableValue(pack, '%' + placeholderIdentifier + '%', onlineProfile);
+        if (player == null) {
+            return BetonQuest.getInstance().getVariableValue(pack, '%' + placeholderIdentifier + '%', null);
+        }
+        final int typeEnd = placeholderIdentifier.indexOf('.');
+        final String type = typeEnd == -1 ? placeholderIdentifier : placeholderIdentifier.substring(0, typeEnd);
+        return cache.get(player.getUniqueId(), identifier, type, () -> {
+            final OnlineProfile onlineProfile = PlayerConverter.getID(player);
+            return BetonQuest.getInstance().getVariableValue(pack, '%' + placeholderIdentifier + '%', onlineProfile);
+        });
     }
 }
@@ -2,30 +2,39 @@ package org.betonquest.betonquest.compatibility.placeholderapi;
 
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.compatibility.Integrator;
+import org.bukkit.Bukkit;
+
+import java.time.InstantSource;
 
 @SuppressWarnings("PMD.CommentRequired")
 public class PlaceholderAPIIntegrator implements Integrator {
 
     private final BetonQuest plugin;
 
+    private final PlaceholderCache cache;
+
     public PlaceholderAPIIntegrator() {
         plugin = BetonQuest.getInstance();
+        cache = new PlaceholderCache(InstantSource.system());
     }
 
     @Override
     public void hook() {
         plugin.registerVariable("ph", PlaceholderVariable.class);
-        new BetonQuestPlaceholder(plugin.getLoggerFactory().create(BetonQuestPlaceholder.class, "PlaceholderAPI Integration")).register();
+        cache.configure(plugin.getPluginConfig().getConfigurationSection("placeholderapi.cache"));
+        Bukkit.getPluginManager().registerEvents(cache, plugin);
+        plugin.registerDebugStatistic("PlaceholderAPI cache", cache::getStatistics);
+        new BetonQuestPlaceholder(plugin.getLoggerFactory().create(BetonQuestPlaceholder.class, "PlaceholderAPI Integration"), cache).register();
     }
 
     @Override
     public void reload() {
-        // Empty
+        cache.configure(plugin.getPluginConfig().getConfigurationSection("placeholderapi.cache"));
     }
 
     @Override
     public void close() {
-        // Empty
+        cache.clear();
     }
 
 }
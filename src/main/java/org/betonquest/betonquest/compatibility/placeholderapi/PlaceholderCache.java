@@ -0,0 +1,222 @@
+package org.betonquest.betonquest.compatibility.placeholderapi;
+
+import org.betonquest.betonquest.api.PlayerObjectiveChangeEvent;
+import org.betonquest.betonquest.api.PlayerTagAddEvent;
+import org.betonquest.betonquest.api.PlayerTagRemoveEvent;
+import org.betonquest.betonquest.api.QuestDataUpdateEvent;
+import org.betonquest.betonquest.api.profiles.ProfileEvent;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.InstantSource;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caches resolved placeholder values per player for a configurable time.
+ * <p>
+ * The time to live is configured per variable type, which is the part of the placeholder identifier before the
+ * first dot, for example {@code point} for {@code %betonquest_pack:point.x.amount%}.
+ * All entries of a player are dropped when a tag or objective of the player changes and when the player quits,
+ * all other changes become visible once the entry expired.
+ * <p>
+ * This class is thread safe.
+ */
+public class PlaceholderCache implements Listener {
+    /**
+     * The source of the current time.
+     */
+    private final InstantSource instantSource;
+
+    /**
+     * The cached values by player and placeholder identifier.
+     */
+    private final Map<UUID, Map<String, Entry>> values;
+
+    /**
+     * The amount of requests that were answered from the cache.
+     */
+    private final LongAdder hits;
+
+    /**
+     * The amount of requests that had to resolve the value.
+     */
+    private final LongAdder misses;
+
+    /**
+     * The current settings of the cache.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile Settings settings;
+
+    /**
+     * Creates a new disabled cache.
+     *
+     * @param instantSource the source of the current time
+     */
+    public PlaceholderCache(final InstantSource instantSource) {
+        this.instantSource = instantSource;
+        this.values = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.settings = new Settings(false, 0, Map.of());
+    }
+
+    /**
+     * Applies the settings of the given configuration section and removes all cached values.
+     * A missing section disables the cache.
+     *
+     * @param section the {@code placeholderapi.cache} section of the configuration
+     */
+    public void configure(@Nullable final ConfigurationSection section) {
+        if (section == null) {
+            settings = new Settings(false, 0, Map.of());
+        } else {
+            final Map<String, Long> timesToLive = new HashMap<>();
+            final ConfigurationSection ttlSection = section.getConfigurationSection("ttl");
+            if (ttlSection != null) {
+                for (final String type : ttlSection.getKeys(false)) {
+                    timesToLive.put(type.toLowerCase(Locale.ROOT), ttlSection.getLong(type));
+                }
+            }
+            settings = new Settings(section.getBoolean("enabled"), section.getLong("default_ttl", 1000), timesToLive);
+        }
+        clear();
+    }
+
+    /**
+     * Gets the cached value of the placeholder or resolves and caches it.
+     *
+     * @param player     the player the placeholder is requested for
+     * @param identifier the identifier of the placeholder including the package
+     * @param type       the variable type of the placeholder
+     * @param resolver   the resolver of the value
+     * @return the value of the placeholder
+     */
+    public String get(final UUID player, final String identifier, final String type, final Supplier<String> resolver) {
+        final Settings current = settings;
+        final long timeToLive = current.enabled() ? current.getTimeToLive(type) : 0;
+        if (timeToLive <= 0) {
+            return resolver.get();
+        }
+        final long now = instantSource.millis();
+        final Map<String, Entry> playerValues = values.computeIfAbsent(player, uuid -> new ConcurrentHashMap<>());
+        final Entry cached = playerValues.get(identifier);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.increment();
+            return cached.value();
+        }
+        misses.increment();
+        final String value = resolver.get();
+        playerValues.put(identifier, new Entry(value, now + timeToLive));
+        return value;
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        values.clear();
+    }
+
+    /**
+     * Gets a summary of the cache usage.
+     *
+     * @return the amount of entries, hits and misses and the hit rate
+     */
+    public String getStatistics() {
+        final long hitCount = hits.sum();
+        final long missCount = misses.sum();
+        final long requestCount = hitCount + missCount;
+        final double hitRate = requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        final int size = values.values().stream().mapToInt(Map::size).sum();
+        return size + " entries, " + hitCount + " hits, " + missCount + " misses, "
+                + String.format(Locale.ROOT, "%.1f", hitRate * 100) + "% hit rate";
+    }
+
+    private void invalidate(final ProfileEvent event) {
+        values.remove(event.getProfile().getPlayerUUID());
+    }
+
+    /**
+     * Drops the cached values of a player whose tags changed.
+     *
+     * @param event the tag add event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagAdd(final PlayerTagAddEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * Drops the cached values of a player whose tags changed.
+     *
+     * @param event the tag remove event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTagRemove(final PlayerTagRemoveEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * Drops the cached values of a player whose objectives changed.
+     *
+     * @param event the objective change event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onObjectiveChange(final PlayerObjectiveChangeEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * Drops the cached values of a player whose objective data changed.
+     *
+     * @param event the data update event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuestDataUpdate(final QuestDataUpdateEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * Drops the cached values of a player that left.
+     *
+     * @param event the quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        values.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * A cached value.
+     *
+     * @param value     the resolved value
+     * @param expiresAt the time in milliseconds after which the value is resolved again
+     */
+    private record Entry(String value, long expiresAt) {
+    }
+
+    /**
+     * The settings of the cache.
+     *
+     * @param enabled     whether values are cached at all
+     * @param defaultTtl  the time to live in milliseconds for variable types without an own setting
+     * @param timesToLive the time to live in milliseconds by lower case variable type
+     */
+    private record Settings(boolean enabled, long defaultTtl, Map<String, Long> timesToLive) {
+        private long getTimeToLive(final String type) {
+            final Long timeToLive = timesToLive.get(type.toLowerCase(Locale.ROOT));
+            return timeToLive == null ? defaultTtl : timeToLive;
+        }
+    }
+}
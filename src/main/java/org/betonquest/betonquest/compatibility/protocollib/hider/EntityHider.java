@@ -7,12 +7,9 @@ import com.comphenix.protocol.events.PacketAdapter;
 import com.comphenix.protocol.events.PacketContainer;
 import com.comphenix.protocol.events.PacketEvent;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.papermc.lib.PaperLib;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
-import org.betonquest.betonquest.utils.PlayerConverter;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -26,8 +23,6 @@ import org.bukkit.plugin.Plugin;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * EntityHider From: https://gist.github.com/aadnk/5871793
@@ -81,7 +76,10 @@ public class EntityHider implements Listener {
 
     private final PacketAdapter protocolListener;
 
-    protected Table<Integer, Integer, Boolean> observerEntityMap = HashBasedTable.create();
+    /**
+     * The entities in the table of each observer, read from the packet threads.
+     */
+    protected final EntityVisibilityMap observerEntityMap = new EntityVisibilityMap();
 
     private ProtocolManager manager;
 
@@ -138,9 +136,9 @@ public class EntityHider implements Listener {
     @SuppressWarnings("PMD.LinguisticNaming")
     protected boolean setMembership(final OnlineProfile observer, final int entityID, final boolean member) {
         if (member) {
-            return observerEntityMap.put(observer.getPlayer().getEntityId(), entityID, true) != null;
+            return observerEntityMap.add(observer.getPlayer().getEntityId(), entityID);
         } else {
-            return observerEntityMap.remove(observer.getPlayer().getEntityId(), entityID) != null;
+            return observerEntityMap.remove(observer.getPlayer().getEntityId(), entityID);
         }
     }
 
@@ -152,7 +150,18 @@ public class EntityHider implements Listener {
      * @return TRUE if they are present, FALSE otherwise.
      */
     protected boolean getMembership(final OnlineProfile observer, final int entityID) {
-        return observerEntityMap.contains(observer.getPlayer().getEntityId(), entityID);
+        return getMembership(observer.getPlayer().getEntityId(), entityID);
+    }
+
+    /**
+     * Determine if the given entity and observer is present in the table.
+     *
+     * @param observerID - entity ID of the player observer.
+     * @param entityID   - ID of the entity.
+     * @return TRUE if they are present, FALSE otherwise.
+     */
+    protected boolean getMembership(final int observerID, final int entityID) {
+        return observerEntityMap.contains(observerID, entityID);
     }
 
     /**
@@ -163,8 +172,21 @@ public class EntityHider implements Listener {
      * @return TRUE if the entity is visible, FALSE otherwise.
      */
     protected boolean isVisible(final OnlineProfile observer, final int entityID) {
+        return isVisible(observer.getPlayer().getEntityId(), entityID);
+    }
+
+    /**
+     * Determine if a given entity is visible for a particular observer.
+     * <p>
+     * This method does not lock or allocate, so it is safe to call it for every packet.
+     *
+     * @param observerID - entity ID of the observer player.
+     * @param entityID   - ID of the entity that we are testing for visibility.
+     * @return TRUE if the entity is visible, FALSE otherwise.
+     */
+    protected boolean isVisible(final int observerID, final int entityID) {
         // If we are using a whitelist, presence means visibility - if not, the opposite is the case
-        final boolean presence = getMembership(observer, entityID);
+        final boolean presence = getMembership(observerID, entityID);
 
         return (policy == Policy.WHITELIST) == presence;
     }
@@ -176,13 +198,7 @@ public class EntityHider implements Listener {
      * @param destroyed - TRUE if the entity was killed, FALSE if it is merely unloading.
      */
     protected void removeEntity(final Entity entity, final boolean destroyed) {
-        final int entityID = entity.getEntityId();
-
-        final List<Map.Entry<Integer, Map<Integer, Boolean>>> list = new CopyOnWriteArrayList<>(observerEntityMap.rowMap().entrySet());
-
-        for (final Map.Entry<Integer, Map<Integer, Boolean>> integerMapEntry : list) {
-            integerMapEntry.getValue().remove(entityID);
-        }
+        observerEntityMap.removeEntity(entity.getEntityId());
     }
 
     /**
@@ -192,7 +208,7 @@ public class EntityHider implements Listener {
      */
     protected void removePlayer(final Player player) {
         // Cleanup
-        observerEntityMap.rowMap().remove(player.getEntityId());
+        observerEntityMap.removeObserver(player.getEntityId());
     }
 
     /**
@@ -238,7 +254,7 @@ public class EntityHider implements Listener {
                     final int index = event.getPacketType().equals(PacketType.Play.Server.PLAYER_COMBAT_KILL) ? 1 : 0;
 
                     final Integer entityID = event.getPacket().getIntegers().readSafely(index);
-                    if (entityID != null && !isVisible(PlayerConverter.getID(event.getPlayer()), entityID)) {
+                    if (entityID != null && !isVisible(event.getPlayer().getEntityId(), entityID)) {
                         event.setCancelled(true);
                     }
                 }
@@ -0,0 +1,261 @@
+package org.betonquest.betonquest.compatibility.protocollib.hider;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Primitive map from an observer entity ID to the set of entity IDs stored for it.
+ * <p>
+ * Every observer has a row holding a sorted array of entity IDs.
+ * Changes replace the array of a row, or the table of rows when observers are added or removed,
+ * so readers never see a partial change.
+ * <p>
+ * This class is thread safe.
+ * {@link #contains(int, int)} is lock free and allocation free, changes are synchronized.
+ */
+public class EntityVisibilityMap {
+    /**
+     * The table of the rows by observer entity ID.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile RowTable rows = new RowTable(new int[0], new Row[0], 0);
+
+    /**
+     * Creates a new empty visibility map.
+     */
+    public EntityVisibilityMap() {
+    }
+
+    /**
+     * Checks whether the entity is stored for the observer.
+     *
+     * @param observerID the entity ID of the observer
+     * @param entityID   the entity ID
+     * @return true if the entity is stored for the observer
+     */
+    public boolean contains(final int observerID, final int entityID) {
+        final Row row = rows.get(observerID);
+        return row != null && Arrays.binarySearch(row.entities, entityID) >= 0;
+    }
+
+    /**
+     * Stores the entity for the observer.
+     *
+     * @param observerID the entity ID of the observer
+     * @param entityID   the entity ID
+     * @return true if the entity was already stored for the observer
+     */
+    public boolean add(final int observerID, final int entityID) {
+        synchronized (this) {
+            Row row = rows.get(observerID);
+            if (row == null) {
+                row = new Row();
+                rows = rows.with(observerID, row);
+            }
+            final int[] entities = row.entities;
+            final int index = Arrays.binarySearch(entities, entityID);
+            if (index >= 0) {
+                return true;
+            }
+            final int insertion = -index - 1;
+            final int[] changed = new int[entities.length + 1];
+            System.arraycopy(entities, 0, changed, 0, insertion);
+            changed[insertion] = entityID;
+            System.arraycopy(entities, insertion, changed, insertion + 1, entities.length - insertion);
+            row.entities = changed;
+            return false;
+        }
+    }
+
+    /**
+     * Removes the entity from the observer.
+     *
+     * @param observerID the entity ID of the observer
+     * @param entityID   the entity ID
+     * @return true if the entity was stored for the observer
+     */
+    public boolean remove(final int observerID, final int entityID) {
+        synchronized (this) {
+            final Row row = rows.get(observerID);
+            if (row == null || !removeFromRow(row, entityID)) {
+                return false;
+            }
+            if (row.entities.length == 0) {
+                rows = rows.without(observerID);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Removes the entity from all observers and drops the observers that have no entities left.
+     *
+     * @param entityID the entity ID
+     */
+    public void removeEntity(final int entityID) {
+        synchronized (this) {
+            final RowTable table = rows;
+            boolean emptied = false;
+            for (final Row row : table.values) {
+                if (row != null && removeFromRow(row, entityID) && row.entities.length == 0) {
+                    emptied = true;
+                }
+            }
+            if (emptied) {
+                rows = table.withoutEmptyRows();
+            }
+        }
+    }
+
+    /**
+     * Removes the observer with all its entities.
+     *
+     * @param observerID the entity ID of the observer
+     */
+    public void removeObserver(final int observerID) {
+        synchronized (this) {
+            if (rows.get(observerID) != null) {
+                rows = rows.without(observerID);
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of observers that have entities stored.
+     *
+     * @return the amount of observers
+     */
+    public int observerCount() {
+        return rows.size;
+    }
+
+    private boolean removeFromRow(final Row row, final int entityID) {
+        final int[] entities = row.entities;
+        final int index = Arrays.binarySearch(entities, entityID);
+        if (index < 0) {
+            return false;
+        }
+        final int[] changed = new int[entities.length - 1];
+        System.arraycopy(entities, 0, changed, 0, index);
+        System.arraycopy(entities, index + 1, changed, index, entities.length - index - 1);
+        row.entities = changed;
+        return true;
+    }
+
+    /**
+     * The entities stored for one observer.
+     */
+    private static final class Row {
+        /**
+         * The sorted entity IDs, replaced on every change.
+         */
+        @SuppressWarnings("PMD.AvoidUsingVolatile")
+        private volatile int[] entities = new int[0];
+    }
+
+    /**
+     * Immutable open addressing table of the rows by observer entity ID.
+     * A slot is empty if its value is null.
+     */
+    private static final class RowTable {
+        /**
+         * The observer entity IDs.
+         */
+        private final int[] keys;
+
+        /**
+         * The rows of the observers.
+         */
+        private final Row[] values;
+
+        /**
+         * The amount of rows in the table.
+         */
+        private final int size;
+
+        private RowTable(final int[] keys, final Row[] values, final int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        private static int slot(final int key, final int mask) {
+            final int hash = key * 0x9E37_79B9;
+            return (hash ^ hash >>> 16) & mask;
+        }
+
+        @Nullable
+        private Row get(final int key) {
+            if (size == 0) {
+                return null;
+            }
+            final int mask = keys.length - 1;
+            for (int slot = slot(key, mask); ; slot = slot + 1 & mask) {
+                final Row row = values[slot];
+                if (row == null || keys[slot] == key) {
+                    return row;
+                }
+            }
+        }
+
+        private RowTable with(final int key, final Row row) {
+            final RowTable table = rehash(capacityFor(size + 1), key, false);
+            put(table.keys, table.values, key, row);
+            return new RowTable(table.keys, table.values, table.size + 1);
+        }
+
+        private RowTable without(final int key) {
+            return rehash(capacityFor(size - 1), key, true);
+        }
+
+        private RowTable withoutEmptyRows() {
+            int remaining = 0;
+            for (final Row row : values) {
+                if (row != null && row.entities.length > 0) {
+                    remaining++;
+                }
+            }
+            final int capacity = capacityFor(remaining);
+            final int[] newKeys = new int[capacity];
+            final Row[] newValues = new Row[capacity];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null && values[i].entities.length > 0) {
+                    put(newKeys, newValues, keys[i], values[i]);
+                }
+            }
+            return new RowTable(newKeys, newValues, remaining);
+        }
+
+        private static int capacityFor(final int size) {
+            int capacity = 8;
+            while (capacity < size * 2) {
+                capacity <<= 1;
+            }
+            return capacity;
+        }
+
+        private RowTable rehash(final int capacity, final int key, final boolean skipKey) {
+            final int[] newKeys = new int[capacity];
+            final Row[] newValues = new Row[capacity];
+            int newSize = 0;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null && !(skipKey && keys[i] == key)) {
+                    put(newKeys, newValues, keys[i], values[i]);
+                    newSize++;
+                }
+            }
+            return new RowTable(newKeys, newValues, newSize);
+        }
+
+        private static void put(final int[] keys, final Row[] values, final int key, final Row row) {
+            final int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (values[slot] != null) {
+                slot = slot + 1 & mask;
+            }
+            keys[slot] = key;
+            values[slot] = row;
+        }
+    }
+}
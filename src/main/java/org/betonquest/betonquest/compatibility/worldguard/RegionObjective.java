@@ -7,23 +7,20 @@ import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.utils.PlayerConverter;
+import org.betonquest.betonquest.utils.location.PlayerMoveHandler;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
-import org.bukkit.event.vehicle.VehicleMoveEvent;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -31,7 +28,7 @@ import java.util.UUID;
  * Player has to enter the WorldGuard region
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class RegionObjective extends Objective implements Listener {
+public class RegionObjective extends Objective implements Listener, PlayerMoveHandler {
     private final String name;
 
     private final boolean entry;
@@ -79,24 +76,12 @@ public class RegionObjective extends Objective implements Listener {
 
     @EventHandler(ignoreCancelled = true)
     public void onTeleport(final PlayerTeleportEvent event) {
-        onMove(event);
-    }
-
-    @EventHandler(ignoreCancelled = true)
-    public void onMove(final PlayerMoveEvent event) {
         checkLocation(event.getPlayer(), event.getTo());
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onRide(final VehicleMoveEvent event) {
-        qreHandler.handle(() -> {
-            final List<Entity> passengers = event.getVehicle().getPassengers();
-            for (final Entity passenger : passengers) {
-                if (passenger instanceof final Player player) {
-                    checkLocation(player, event.getTo());
-                }
-            }
-        });
+    @Override
+    public void onMove(final Player player, final Location to) {
+        checkLocation(player, to);
     }
 
     @SuppressWarnings("PMD.CyclomaticComplexity")
@@ -129,11 +114,13 @@ public class RegionObjective extends Objective implements Listener {
     @Override
     public void start() {
         Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        BetonQuest.getInstance().getPlayerMoveDispatcher().register(this);
     }
 
     @Override
     public void stop() {
         HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getPlayerMoveDispatcher().unregister(this);
     }
 
     @Override
@@ -44,9 +44,7 @@ public class AlternativeCondition extends Condition {
         } else {
             final List<CompletableFuture<Boolean>> conditions = new ArrayList<>();
             for (final ConditionID id : conditionIDs) {
-                final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                        () -> BetonQuest.condition(profile, id));
-                conditions.add(future);
+                conditions.add(BetonQuest.getInstance().getConditionExecutor().check(profile, id));
             }
             for (final CompletableFuture<Boolean> condition : conditions) {
                 try {
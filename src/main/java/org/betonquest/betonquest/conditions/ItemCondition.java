@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.conditions;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.Instruction;
 import org.betonquest.betonquest.Instruction.Item;
@@ -8,9 +7,7 @@ import org.betonquest.betonquest.api.Condition;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
-import org.bukkit.inventory.ItemStack;
-
-import java.util.List;
+import org.betonquest.betonquest.item.ItemCountIndex;
 
 /**
  * Requires the player to have specified amount of items in the inventory
@@ -26,34 +23,14 @@ public class ItemCondition extends Condition {
     }
 
     @Override
-    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.CognitiveComplexity"})
-    @SuppressFBWarnings("NP_NULL_ON_SOME_PATH_FROM_RETURN_VALUE")
     protected Boolean execute(final Profile profile) throws QuestRuntimeException {
-        int successfulChecks = 0; // Count of successful checks
-
+        final ItemCountIndex itemCountIndex = BetonQuest.getInstance().getItemCountIndex();
         for (final Item questItem : questItems) {
-            int counter = 0; // Reset counter for each item
             final int amount = questItem.getAmount().getInt(profile);
-
-            final ItemStack[] inventoryItems = profile.getOnlineProfile().get().getPlayer().getInventory().getContents();
-            for (final ItemStack item : inventoryItems) {
-                if (item == null || !questItem.isItemEqual(item)) {
-                    continue;
-                }
-                counter += item.getAmount();
-            }
-
-            final List<ItemStack> backpackItems = BetonQuest.getInstance().getPlayerData(profile).getBackpack();
-            for (final ItemStack item : backpackItems) {
-                if (item == null || !questItem.isItemEqual(item)) {
-                    continue;
-                }
-                counter += item.getAmount();
-            }
-            if (counter >= amount) {
-                successfulChecks++;
+            if (itemCountIndex.getAmount(profile, questItem.getItem()) < amount) {
+                return false;
             }
         }
-        return successfulChecks == questItems.length;
+        return true;
     }
 }
@@ -29,6 +29,7 @@ public class PointCondition extends Condition {
         category = Utils.addPackage(instruction.getPackage(), instruction.next());
         count = instruction.getVarNum();
         equal = instruction.hasArgument("equal");
+        cacheable = count.isConstant();
     }
 
     @Override
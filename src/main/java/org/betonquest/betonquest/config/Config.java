@@ -17,12 +17,15 @@ import org.bukkit.Sound;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * Handles the configuration of the plugin
@@ -46,6 +49,16 @@ public final class Config {
 
     private static ConfigAccessor internal;
 
+    /**
+     * Compiled messages of the messages file by language and message name.
+     */
+    private static Map<String, Map<String, MessageTemplate>> messageTemplates = Map.of();
+
+    /**
+     * Compiled internal messages by language and message name.
+     */
+    private static Map<String, Map<String, MessageTemplate>> internalTemplates = Map.of();
+
     private static String lang;
 
     private Config() {
@@ -69,6 +82,9 @@ public final class Config {
             return;
         }
 
+        messageTemplates = compileMessages(messages);
+        internalTemplates = compileMessages(internal.getConfig());
+
         lang = config.getString("language");
         for (final String key : messages.getKeys(false)) {
             if (!"global".equals(key)) {
@@ -92,28 +108,60 @@ public final class Config {
      * does not exist
      */
     public static String getMessage(final String lang, final String message, final String... variables) {
-        String result = messages.getString(lang + "." + message);
-        if (result == null) {
-            result = messages.getString(Config.getLanguage() + "." + message);
+        final MessageTemplate template = getMessageTemplate(lang, message);
+        return template == null ? null : template.format(variables);
+    }
+
+    private static Map<String, Map<String, MessageTemplate>> compileMessages(final ConfigurationSection config) {
+        final Map<String, Map<String, MessageTemplate>> templates = new HashMap<>();
+        for (final String language : config.getKeys(false)) {
+            final ConfigurationSection section = config.getConfigurationSection(language);
+            if (section == null) {
+                continue;
+            }
+            final Map<String, MessageTemplate> languageTemplates = new HashMap<>();
+            for (final String key : section.getKeys(true)) {
+                final String value = section.getString(key);
+                if (value != null && !section.isConfigurationSection(key)) {
+                    languageTemplates.put(key, MessageTemplate.compile(value));
+                }
+            }
+            templates.put(language, languageTemplates);
         }
-        if (result == null) {
-            result = messages.getString("en." + message);
+        return templates;
+    }
+
+    /**
+     * Gets the compiled message in the specified language, falling back to the default language,
+     * English and the internal messages in that order.
+     *
+     * @param lang    language in which the message should be retrieved
+     * @param message name of the message to retrieve
+     * @return the compiled message or null if it does not exist
+     */
+    @Nullable
+    private static MessageTemplate getMessageTemplate(final String lang, final String message) {
+        MessageTemplate template = getTemplate(messageTemplates, lang, message);
+        if (template == null) {
+            template = getTemplate(messageTemplates, Config.getLanguage(), message);
         }
-        if (result == null) {
-            result = internal.getConfig().getString(lang + "." + message);
+        if (template == null) {
+            template = getTemplate(messageTemplates, "en", message);
         }
-        if (result == null) {
-            result = internal.getConfig().getString("en." + message);
+        if (template == null) {
+            template = getTemplate(internalTemplates, lang, message);
         }
-        if (result != null) {
-            if (variables != null) {
-                for (int i = 0; i < variables.length; i++) {
-                    result = result.replace("{" + (i + 1) + "}", variables[i]);
-                }
-            }
-            result = ChatColor.translateAlternateColorCodes('&', result);
+        if (template == null) {
+            template = getTemplate(internalTemplates, "en", message);
         }
-        return result;
+        return template;
+    }
+
+    @Nullable
+    private static MessageTemplate getTemplate(final Map<String, Map<String, MessageTemplate>> templates,
+                                               @Nullable final String lang, final String message) {
+        final Map<String, MessageTemplate> languageTemplates = lang == null ? null : templates.get(lang);
+        return languageTemplates == null ? null : languageTemplates.get(message);
     }
 
     /**
@@ -324,20 +372,20 @@ public final class Config {
             return null;
         }
         final String language = playerData.getLanguage();
-        String message = getMessage(language, messageName, variables);
-        if (message == null || message.length() == 0) {
+        final MessageTemplate template = getMessageTemplate(language, messageName);
+        if (template == null || template.isEmpty()) {
             return null;
         }
-        if (prefixName != null) {
-            final String prefix = getMessage(language, prefixName, prefixVariables);
-            if (prefix.length() > 0) {
-                message = prefix + message;
-            }
+        final UnaryOperator<String> variableResolver = packName == null ? null
+                : variable -> BetonQuest.getInstance().getVariableValue(packName, variable, onlineProfile);
+        final String message = template.format(variables, variableResolver);
+        if (message.isEmpty()) {
+            return null;
         }
-        if (packName != null) {
-            for (final String variable : BetonQuest.resolveVariables(message)) {
-                final String replacement = BetonQuest.getInstance().getVariableValue(packName, variable, onlineProfile);
-                message = message.replace(variable, replacement);
+        if (prefixName != null) {
+            final MessageTemplate prefixTemplate = getMessageTemplate(language, prefixName);
+            if (prefixTemplate != null && !prefixTemplate.isEmpty()) {
+                return prefixTemplate.format(prefixVariables, variableResolver) + message;
             }
         }
         return message;
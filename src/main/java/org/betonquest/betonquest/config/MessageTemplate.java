@@ -0,0 +1,183 @@
+package org.betonquest.betonquest.config;
+
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A message compiled into literal segments, positional slots like {@code {1}} and variable slots like {@code %var%}.
+ * <p>
+ * The color codes of the message are translated when it is compiled,
+ * so building the message is a single pass over the segments.
+ * Arguments inserted into positional slots still get their color codes translated and their variables resolved.
+ */
+public final class MessageTemplate {
+    /**
+     * The pattern of a positional slot or a variable in the message.
+     */
+    private static final Pattern SLOT_PATTERN = Pattern.compile("\\{(\\d+)}|%[^ %\\s]+%");
+
+    /**
+     * The pattern of a variable in an argument.
+     */
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("%[^ %\\s]+%");
+
+    /**
+     * The segments of the message in order.
+     */
+    private final Segment[] segments;
+
+    /**
+     * The approximate length of the built message.
+     */
+    private final int length;
+
+    private MessageTemplate(final Segment[] segments, final int length) {
+        this.segments = segments;
+        this.length = length;
+    }
+
+    /**
+     * Compiles the raw message.
+     *
+     * @param raw the message with untranslated color codes
+     * @return the compiled message
+     */
+    public static MessageTemplate compile(final String raw) {
+        final String message = ChatColor.translateAlternateColorCodes('&', raw);
+        final List<Segment> segments = new ArrayList<>();
+        final Matcher matcher = SLOT_PATTERN.matcher(message);
+        int literalStart = 0;
+        while (matcher.find()) {
+            if (matcher.start() > literalStart) {
+                segments.add(new Literal(message.substring(literalStart, matcher.start())));
+            }
+            if (matcher.group(1) == null) {
+                segments.add(new VariableSlot(matcher.group()));
+            } else {
+                segments.add(new PositionalSlot(matcher.group(), Integer.parseInt(matcher.group(1)) - 1));
+            }
+            literalStart = matcher.end();
+        }
+        if (literalStart < message.length()) {
+            segments.add(new Literal(message.substring(literalStart)));
+        }
+        return new MessageTemplate(segments.toArray(new Segment[0]), message.length());
+    }
+
+    private static String translate(final String argument) {
+        return ChatColor.translateAlternateColorCodes('&', argument);
+    }
+
+    private static String resolve(final String argument, @Nullable final UnaryOperator<String> variableResolver) {
+        if (variableResolver == null || argument.indexOf('%') < 0) {
+            return argument;
+        }
+        final Matcher matcher = VARIABLE_PATTERN.matcher(argument);
+        final StringBuilder builder = new StringBuilder(argument.length());
+        int literalStart = 0;
+        while (matcher.find()) {
+            builder.append(argument, literalStart, matcher.start()).append(variableResolver.apply(matcher.group()));
+            literalStart = matcher.end();
+        }
+        return builder.append(argument, literalStart, argument.length()).toString();
+    }
+
+    /**
+     * Checks whether the message has no content at all.
+     *
+     * @return true if the message is empty
+     */
+    public boolean isEmpty() {
+        return segments.length == 0;
+    }
+
+    /**
+     * Builds the message with the arguments in the positional slots and the variables left as they are.
+     *
+     * @param arguments the arguments for the positional slots, {@code {1}} is the first argument
+     * @return the built message
+     */
+    public String format(@Nullable final String... arguments) {
+        return format(arguments, null);
+    }
+
+    /**
+     * Builds the message with the arguments in the positional slots and the resolved variables.
+     *
+     * @param arguments        the arguments for the positional slots, {@code {1}} is the first argument
+     * @param variableResolver the resolver of the variables or null to leave them as they are
+     * @return the built message
+     */
+    public String format(@Nullable final String[] arguments, @Nullable final UnaryOperator<String> variableResolver) {
+        final String[] args = arguments == null ? new String[0] : arguments;
+        final StringBuilder builder = new StringBuilder(length);
+        for (final Segment segment : segments) {
+            segment.append(builder, args, variableResolver);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A part of the message.
+     */
+    private interface Segment {
+        /**
+         * Appends the content of this segment.
+         *
+         * @param builder          the builder of the message
+         * @param arguments        the arguments for the positional slots
+         * @param variableResolver the resolver of the variables or null
+         */
+        void append(StringBuilder builder, String[] arguments, @Nullable UnaryOperator<String> variableResolver);
+    }
+
+    /**
+     * Text that is always the same.
+     *
+     * @param text the text
+     */
+    private record Literal(String text) implements Segment {
+        @Override
+        public void append(final StringBuilder builder, final String[] arguments, @Nullable final UnaryOperator<String> variableResolver) {
+            builder.append(text);
+        }
+    }
+
+    /**
+     * A slot for an argument, left as it is if the argument is missing.
+     * Variables in the argument are resolved.
+     *
+     * @param text  the text of the slot
+     * @param index the index of the argument
+     */
+    private record PositionalSlot(String text, int index) implements Segment {
+        @Override
+        public void append(final StringBuilder builder, final String[] arguments, @Nullable final UnaryOperator<String> variableResolver) {
+            builder.append(index < arguments.length ? resolve(translate(arguments[index]), variableResolver) : text);
+        }
+    }
+
+    /**
+     * A slot for a variable, its name may contain positional slots.
+     *
+     * @param name the name of the variable including the percent signs
+     */
+    private record VariableSlot(String name) implements Segment {
+        @Override
+        public void append(final StringBuilder builder, final String[] arguments, @Nullable final UnaryOperator<String> variableResolver) {
+            String variable = name;
+            if (variable.indexOf('{') >= 0) {
+                for (int i = 0; i < arguments.length; i++) {
+                    variable = variable.replace("{" + (i + 1) + "}", arguments[i]);
+                }
+            }
+            builder.append(variableResolver == null ? variable : variableResolver.apply(variable));
+        }
+    }
+}
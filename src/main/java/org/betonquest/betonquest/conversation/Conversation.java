@@ -14,8 +14,6 @@ import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.config.Config;
 import org.betonquest.betonquest.conversation.ConversationData.OptionType;
-import org.betonquest.betonquest.database.Saver.Record;
-import org.betonquest.betonquest.database.UpdateType;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.id.EventID;
@@ -270,9 +268,7 @@ public class Conversation implements Listener {
         for (final String option : options) {
             final List<CompletableFuture<Boolean>> conditions = new ArrayList<>();
             for (final ConditionID conditionID : data.getConditionIDs(option, OptionType.PLAYER)) {
-                final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                        () -> BetonQuest.condition(onlineProfile, conditionID));
-                conditions.add(future);
+                conditions.add(plugin.getConditionExecutor().check(onlineProfile, conditionID));
             }
             futuresOptions.add(Pair.of(option, conditions));
         }
@@ -476,8 +472,7 @@ public class Conversation implements Listener {
             // save the conversation to the database
             final String loc = location.getX() + ";" + location.getY() + ";" + location.getZ() + ";"
                     + location.getWorld().getName();
-            plugin.getSaver().add(new Record(UpdateType.UPDATE_CONVERSATION,
-                    convID + " " + option + " " + loc, onlineProfile.getProfileUUID().toString()));
+            plugin.getPlayerData(onlineProfile).setConversation(convID + " " + option + " " + loc);
 
             // End interceptor
             if (interceptor != null) {
@@ -5,8 +5,6 @@ import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.config.Config;
-import org.betonquest.betonquest.database.Saver.Record;
-import org.betonquest.betonquest.database.UpdateType;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -68,8 +66,7 @@ public class ConversationResumer implements Listener {
         }
         if (event.getTo().getWorld().equals(loc.getWorld()) && event.getTo().distanceSquared(loc) < distance * distance) {
             HandlerList.unregisterAll(this);
-            BetonQuest.getInstance().getSaver()
-                    .add(new Record(UpdateType.UPDATE_CONVERSATION, "null", onlineProfile.getProfileUUID().toString()));
+            BetonQuest.getInstance().getPlayerData(onlineProfile).setConversation(null);
             new Conversation(loggerFactory.create(Conversation.class), onlineProfile, conversationID, loc, option);
         }
     }
@@ -80,7 +77,6 @@ public class ConversationResumer implements Listener {
             return;
         }
         HandlerList.unregisterAll(this);
-        BetonQuest.getInstance().getSaver()
-                .add(new Record(UpdateType.UPDATE_CONVERSATION, original, onlineProfile.getProfileUUID().toString()));
+        BetonQuest.getInstance().getPlayerData(onlineProfile).setConversation(original);
     }
 }
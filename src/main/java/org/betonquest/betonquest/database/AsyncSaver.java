@@ -6,14 +6,30 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Listener;
 
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Saves the data to the database asynchronously.
+ * <p>
+ * The records are saved in batches of up to {@code maxBatchSize} records, each batch in a single transaction.
+ * When records arrive, the saver waits up to {@code maxLingerTime} milliseconds for more records to fill the batch.
+ * Records that are superseded by newer records before they are saved are dropped, see {@link CoalescingRecordQueue}.
  */
 @SuppressWarnings("PMD.DoNotUseThreads")
 @SuppressFBWarnings("IS2_INCONSISTENT_SYNC")
 public class AsyncSaver extends Thread implements Listener, Saver {
+    /**
+     * Default amount of records saved in one transaction.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    /**
+     * Default time in milliseconds to wait for more records before saving a batch.
+     */
+    public static final long DEFAULT_MAX_LINGER_TIME = 50;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -27,7 +43,17 @@ public class AsyncSaver extends Thread implements Listener, Saver {
     /**
      * The queue of records to be saved to the database.
      */
-    private final ConcurrentLinkedQueue<Record> queue;
+    private final CoalescingRecordQueue queue;
+
+    /**
+     * The maximum amount of records saved in one transaction.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The maximum time in nanoseconds to wait for more records before saving a batch.
+     */
+    private final long maxLingerNanos;
 
     /**
      * Whether the saver is currently running or not.
@@ -35,15 +61,29 @@ public class AsyncSaver extends Thread implements Listener, Saver {
     private boolean running;
 
     /**
-     * Creates new database saver thread.
+     * Creates new database saver thread with the default batch settings.
      *
      * @param log the logger that will be used for logging
      */
     public AsyncSaver(final BetonQuestLogger log) {
+        this(log, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_LINGER_TIME);
+    }
+
+    /**
+     * Creates new database saver thread.
+     *
+     * @param log           the logger that will be used for logging
+     * @param maxBatchSize  the maximum amount of records saved in one transaction
+     * @param maxLingerTime the maximum time in milliseconds to wait for more records before saving a batch,
+     *                      0 to save immediately
+     */
+    public AsyncSaver(final BetonQuestLogger log, final int maxBatchSize, final long maxLingerTime) {
         super();
         this.log = log;
         this.con = new Connector();
-        this.queue = new ConcurrentLinkedQueue<>();
+        this.queue = new CoalescingRecordQueue();
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxLingerTime));
         this.running = true;
         Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
     }
@@ -51,27 +91,56 @@ public class AsyncSaver extends Thread implements Listener, Saver {
     @Override
     @SuppressFBWarnings("UW_UNCOND_WAIT")
     public void run() {
-        boolean active = false;
+        final List<Record> batch = new ArrayList<>(maxBatchSize);
         while (true) {
             while (queue.isEmpty()) {
                 if (!running) {
+                    log.debug("Saver ended, " + queue.getCoalescedCount() + " superseded records were not saved");
                     return;
                 }
                 synchronized (this) {
                     try {
-                        active = false;
                         wait();
                     } catch (final InterruptedException e) {
-                        log.error("There was a exception with SQL", e);
+                        log.warn("The saver was interrupted, it saves the remaining records and ends", e);
+                        Thread.currentThread().interrupt();
+                        running = false;
                     }
                 }
             }
-            if (!active) {
-                con.refresh();
-                active = true;
+            awaitBatch();
+            queue.drainTo(batch, maxBatchSize);
+            if (batch.size() == 1) {
+                final Record rec = batch.get(0);
+                con.updateSQL(rec.type(), rec.args());
+            } else {
+                con.updateSQL(batch);
+            }
+            con.close();
+            batch.clear();
+        }
+    }
+
+    /**
+     * Waits until either the batch is full, the linger time has passed, the saver is ended or the thread is interrupted.
+     */
+    private void awaitBatch() {
+        if (maxLingerNanos == 0) {
+            return;
+        }
+        final long deadline = System.nanoTime() + maxLingerNanos;
+        synchronized (this) {
+            long remaining = maxLingerNanos;
+            while (running && queue.size() < maxBatchSize && remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (final InterruptedException e) {
+                    // save the batch right away, the interrupt ends the saver once the queue is empty
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remaining = deadline - System.nanoTime();
             }
-            final Record rec = queue.poll();
-            con.updateSQL(rec.type(), rec.args());
         }
     }
 
@@ -45,7 +45,7 @@ public final class Backup {
     @SuppressWarnings({"PMD.CognitiveComplexity"})
     public static boolean backupDatabase(final File databaseBackupFile) {
         final BetonQuest instance = BetonQuest.getInstance();
-        try {
+        try (Connector database = new Connector()) {
             boolean done = true;
             // prepare the config file
             databaseBackupFile.createNewFile();
@@ -54,9 +54,7 @@ public final class Backup {
             // prepare the database and map
             final HashMap<String, ResultSet> map = new HashMap<>();
             final String[] tables = {"objectives", "tags", "points", "journals", "player", "backpack", "global_points",
-                    "global_tags", "migration", "player_profile", "profile"};
-            // open database connection
-            final Connector database = new Connector();
+                    "global_tags", "migration", "player_profile", "profile", "folder_events"};
             // load resultsets into the map
             for (final String table : tables) {
                 LOG.debug("Loading " + table);
@@ -157,6 +155,7 @@ public final class Backup {
         database.createTables();
         // drop all tables
         final Connector con = new Connector();
+        con.updateSQL(UpdateType.DROP_FOLDER_EVENTS);
         con.updateSQL(UpdateType.DROP_OBJECTIVES);
         con.updateSQL(UpdateType.DROP_TAGS);
         con.updateSQL(UpdateType.DROP_POINTS);
@@ -168,6 +167,7 @@ public final class Backup {
         con.updateSQL(UpdateType.DROP_MIRGATION);
         con.updateSQL(UpdateType.DROP_PROFILE);
         con.updateSQL(UpdateType.DROP_PLAYER_PROFILE);
+        con.close();
         // create new tables
         database.createTables();
         // load objectives
@@ -272,6 +272,18 @@ public final class Backup {
                         playerProfile.getString(key + ".name"));
             }
         }
+        final ConfigurationSection folderEvents = config.getConfigurationSection("folder_events");
+        if (folderEvents != null) {
+            for (final String key : folderEvents.getKeys(false)) {
+                con.updateSQL(UpdateType.INSERT_FOLDER_EVENT,
+                        folderEvents.getString(key + ".id"),
+                        folderEvents.getString(key + ".profileID"),
+                        folderEvents.getString(key + ".events"),
+                        folderEvents.getString(key + ".period_ticks"),
+                        folderEvents.getString(key + ".due_time"));
+            }
+        }
+        con.close();
         // delete backup file so it doesn't get loaded again
         file.delete();
     }
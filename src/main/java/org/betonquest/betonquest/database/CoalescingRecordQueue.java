@@ -0,0 +1,242 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A queue of {@link Record}s that drops writes which are superseded by newer writes to the same row.
+ * <p>
+ * Records that write a single row are keyed by their table and the identifying arguments, for example
+ * profileID and objective. When a remove record arrives, all pending records with the same key are dropped,
+ * because the remove deletes every row they could have written. The order of all remaining records is kept,
+ * so delete-then-insert pairs stay intact.
+ * <p>
+ * Records that affect more than one row, like {@link UpdateType#DELETE_OBJECTIVES}, are barriers:
+ * records queued before them are never dropped by records queued after them.
+ * <p>
+ * This class is thread safe.
+ */
+final class CoalescingRecordQueue {
+    /**
+     * Keys of the record types that can be coalesced.
+     */
+    private static final Map<UpdateType, KeyType> KEY_TYPES = new EnumMap<>(UpdateType.class);
+
+    static {
+        KEY_TYPES.put(UpdateType.ADD_OBJECTIVES, new KeyType("objectives", 2, false));
+        KEY_TYPES.put(UpdateType.REMOVE_OBJECTIVES, new KeyType("objectives", 2, true));
+        KEY_TYPES.put(UpdateType.ADD_POINTS, new KeyType("points", 2, false));
+        KEY_TYPES.put(UpdateType.REMOVE_POINTS, new KeyType("points", 2, true));
+        KEY_TYPES.put(UpdateType.ADD_TAGS, new KeyType("tags", 2, false));
+        KEY_TYPES.put(UpdateType.REMOVE_TAGS, new KeyType("tags", 2, true));
+        KEY_TYPES.put(UpdateType.ADD_FOLDER_EVENT, new KeyType("folder_events", 1, false));
+        KEY_TYPES.put(UpdateType.REMOVE_FOLDER_EVENT, new KeyType("folder_events", 1, true));
+        KEY_TYPES.put(UpdateType.ADD_GLOBAL_POINTS, new KeyType("global_points", 1, false));
+        KEY_TYPES.put(UpdateType.REMOVE_GLOBAL_POINTS, new KeyType("global_points", 1, true));
+        KEY_TYPES.put(UpdateType.ADD_GLOBAL_TAGS, new KeyType("global_tags", 1, false));
+        KEY_TYPES.put(UpdateType.REMOVE_GLOBAL_TAGS, new KeyType("global_tags", 1, true));
+    }
+
+    /**
+     * All queued entries in insertion order, including superseded ones.
+     */
+    private final Deque<Entry> entries;
+
+    /**
+     * The pending entries per key since the last barrier.
+     */
+    private final Map<Key, Deque<Entry>> pending;
+
+    /**
+     * The amount of entries that are not superseded.
+     */
+    private int size;
+
+    /**
+     * The amount of records that were dropped because newer records superseded them.
+     */
+    private long coalesced;
+
+    /**
+     * Creates a new empty queue.
+     */
+    CoalescingRecordQueue() {
+        this.entries = new ArrayDeque<>();
+        this.pending = new HashMap<>();
+    }
+
+    /**
+     * Checks if the record is a barrier, so it must not be reordered with any other record.
+     *
+     * @param rec the record to check
+     * @return true if the record does not write a single row identified by its arguments
+     */
+    /* default */ static boolean isBarrier(final Record rec) {
+        return keyTypeOf(rec) == null;
+    }
+
+    /**
+     * Checks if the record removes the row identified by its arguments.
+     *
+     * @param rec the record to check
+     * @return true if the record is not a barrier and removes its row
+     */
+    /* default */ static boolean isRemove(final Record rec) {
+        final KeyType keyType = keyTypeOf(rec);
+        return keyType != null && keyType.remove();
+    }
+
+    private static KeyType keyTypeOf(final Record rec) {
+        final KeyType keyType = KEY_TYPES.get(rec.type());
+        if (keyType == null || rec.args() == null || rec.args().length < keyType.arity()) {
+            return null;
+        }
+        return keyType;
+    }
+
+    /**
+     * Adds a record to the end of the queue, dropping pending records it supersedes.
+     *
+     * @param rec the record to add
+     */
+    public void add(final Record rec) {
+        synchronized (this) {
+            final Entry entry = new Entry(rec);
+            final KeyType keyType = keyTypeOf(rec);
+            if (keyType == null) {
+                pending.clear();
+            } else {
+                final Key key = new Key(keyType.table(), Arrays.asList(Arrays.copyOf(rec.args(), keyType.arity())));
+                final Deque<Entry> keyEntries = pending.computeIfAbsent(key, k -> new ArrayDeque<>());
+                if (keyType.remove()) {
+                    for (final Entry superseded : keyEntries) {
+                        superseded.superseded = true;
+                        size--;
+                        coalesced++;
+                    }
+                    keyEntries.clear();
+                }
+                entry.key = key;
+                keyEntries.add(entry);
+            }
+            entries.add(entry);
+            size++;
+        }
+    }
+
+    /**
+     * Moves up to {@code maxRecords} records from the head of the queue into the given collection.
+     *
+     * @param target     the collection to add the records to
+     * @param maxRecords the maximum amount of records to move
+     * @return the amount of records that were moved
+     */
+    public int drainTo(final Collection<Record> target, final int maxRecords) {
+        synchronized (this) {
+            int drained = 0;
+            while (drained < maxRecords && !entries.isEmpty()) {
+                final Entry entry = entries.poll();
+                if (entry.superseded) {
+                    continue;
+                }
+                if (entry.key != null) {
+                    final Deque<Entry> keyEntries = pending.get(entry.key);
+                    if (keyEntries != null && keyEntries.peekFirst() == entry) {
+                        keyEntries.pollFirst();
+                        if (keyEntries.isEmpty()) {
+                            pending.remove(entry.key);
+                        }
+                    }
+                }
+                target.add(entry.rec);
+                size--;
+                drained++;
+            }
+            return drained;
+        }
+    }
+
+    /**
+     * Gets the amount of records that will be saved.
+     *
+     * @return the amount of records in the queue
+     */
+    public int size() {
+        synchronized (this) {
+            return size;
+        }
+    }
+
+    /**
+     * Checks if there are records to save.
+     *
+     * @return true if the queue contains no records
+     */
+    public boolean isEmpty() {
+        synchronized (this) {
+            return size == 0;
+        }
+    }
+
+    /**
+     * Gets the amount of records that were dropped because they were superseded.
+     *
+     * @return the amount of coalesced records
+     */
+    public long getCoalescedCount() {
+        synchronized (this) {
+            return coalesced;
+        }
+    }
+
+    /**
+     * How a record type is keyed.
+     *
+     * @param table  the table the record writes to
+     * @param arity  the amount of leading arguments that identify the row
+     * @param remove whether the record deletes all rows with its key
+     */
+    private record KeyType(String table, int arity, boolean remove) {
+    }
+
+    /**
+     * The key of a row.
+     *
+     * @param table    the table of the row
+     * @param identity the identifying arguments of the row
+     */
+    private record Key(String table, List<String> identity) {
+    }
+
+    /**
+     * A queued record.
+     */
+    private static final class Entry {
+        /**
+         * The queued record.
+         */
+        private final Record rec;
+
+        /**
+         * The key of the record, null if it is a barrier.
+         */
+        private Key key;
+
+        /**
+         * Whether a newer record superseded this one.
+         */
+        private boolean superseded;
+
+        private Entry(final Record rec) {
+            this.rec = rec;
+        }
+    }
+}
@@ -3,16 +3,26 @@ package org.betonquest.betonquest.database;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Connects to the database and queries it.
+ * <p>
+ * The connector borrows a connection from the pool of the {@link Database} on first use
+ * and holds it until it is {@link #close() closed}.
+ * Result sets returned by the connector are only valid until then.
  */
-public class Connector {
+public class Connector implements AutoCloseable {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -29,33 +39,60 @@ public class Connector {
     private final Database database;
 
     /**
-     * Permanently active connection to the database.
+     * Lock that must be held while writing, null if the database allows concurrent writers.
      */
+    @Nullable
+    private final Lock writeLock;
+
+    /**
+     * Connection borrowed from the pool, null if none is held.
+     */
+    @Nullable
     private Connection connection;
 
     /**
-     * Opens a new connection to the database.
+     * Creates a new connector for the database.
      */
     public Connector() {
         final BetonQuest plugin = BetonQuest.getInstance();
         this.log = plugin.getLoggerFactory().create(Connector.class);
         prefix = plugin.getPluginConfig().getString("mysql.prefix", "");
         database = plugin.getDB();
-        connection = database.getConnection();
-        refresh();
+        writeLock = database.getWriteLock();
     }
 
     /**
-     * This method should be used before any other database operations.
+     * Gets the table prefix.
+     *
+     * @return the table prefix
      */
-    @SuppressFBWarnings({"ODR_OPEN_DATABASE_RESOURCE", "OBL_UNSATISFIED_OBLIGATION"})
-    public final void refresh() {
-        try {
-            connection.prepareStatement("SELECT 1").executeQuery().close();
-        } catch (final SQLException e) {
-            log.error("Reconnecting to the database", e);
-            database.closeConnection();
+    /* default */ String getPrefix() {
+        return prefix;
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
             connection = database.getConnection();
+            if (connection == null) {
+                throw new SQLException("No connection to the database available");
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Returns the held connection to the pool. The connector can still be used afterwards,
+     * it will borrow a new connection.
+     */
+    @Override
+    public void close() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (final SQLException e) {
+                log.error("There was an exception with SQL", e);
+            }
+            connection = null;
         }
     }
 
@@ -84,9 +121,21 @@ public class Connector {
     @SuppressWarnings("PMD.CloseResource")
     @SuppressFBWarnings({"ODR_OPEN_DATABASE_RESOURCE", "OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE"})
     public ResultSet querySQL(final QueryType type, final VariableResolver variableResolver) {
-        final String sql = type.createSql(prefix);
+        return querySQL(type.createSql(prefix), variableResolver);
+    }
+
+    /**
+     * Queries the database with the given SQL code.
+     *
+     * @param sql              SQL code of the query, already containing the table prefix
+     * @param variableResolver resolver for variables in prepared statements
+     * @return ResultSet with the requested data
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    @SuppressFBWarnings({"ODR_OPEN_DATABASE_RESOURCE", "OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE", "SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING"})
+    /* default */ ResultSet querySQL(final String sql, final VariableResolver variableResolver) {
         try {
-            final PreparedStatement statement = connection.prepareStatement(sql);
+            final PreparedStatement statement = getConnection().prepareStatement(sql);
             variableResolver.resolve(statement);
             return statement.executeQuery();
         } catch (final SQLException e) {
@@ -103,13 +152,118 @@ public class Connector {
      */
     public void updateSQL(final UpdateType type, final String... args) {
         final String sql = type.createSql(prefix);
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            for (int i = 0; i < args.length; i++) {
-                statement.setString(i + 1, args[i]);
-            }
+        lockWrites();
+        try (PreparedStatement statement = getConnection().prepareStatement(sql)) {
+            setArguments(statement, args);
             statement.executeUpdate();
         } catch (final SQLException e) {
             log.error("There was an exception with SQL", e);
+        } finally {
+            unlockWrites();
+        }
+    }
+
+    /**
+     * Updates the database with the given records in a single transaction.
+     * Between two {@link CoalescingRecordQueue#isBarrier(Saver.Record) barriers} all removes and then all
+     * adds are sent as one JDBC batch per {@link UpdateType}. This requires the records to come from a
+     * {@link CoalescingRecordQueue}, so there is no remove after an add of the same row between two barriers.
+     * Barriers keep their position and consecutive barriers of the same type are sent as one batch.
+     * If the transaction fails, it is rolled back and the records are executed one by one instead.
+     *
+     * @param records records to save
+     */
+    public void updateSQL(final List<Saver.Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        boolean failed = false;
+        lockWrites();
+        try {
+            final Connection connection = getConnection();
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                executeBatches(connection, records);
+                connection.commit();
+            } catch (final SQLException e) {
+                connection.rollback();
+                log.warn("Batched database update failed, saving the records one by one: " + e.getMessage(), e);
+                failed = true;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException e) {
+            log.error("There was an exception with SQL", e);
+            failed = true;
+        } finally {
+            unlockWrites();
+        }
+        if (failed) {
+            for (final Saver.Record rec : records) {
+                updateSQL(rec.type(), rec.args());
+            }
+        }
+    }
+
+    private void executeBatches(final Connection connection, final List<Saver.Record> records) throws SQLException {
+        final Map<UpdateType, List<Saver.Record>> removes = new LinkedHashMap<>();
+        final Map<UpdateType, List<Saver.Record>> adds = new LinkedHashMap<>();
+        int start = 0;
+        while (start < records.size()) {
+            final UpdateType type = records.get(start).type();
+            int end = start;
+            if (CoalescingRecordQueue.isBarrier(records.get(start))) {
+                while (end < records.size() && records.get(end).type() == type
+                        && CoalescingRecordQueue.isBarrier(records.get(end))) {
+                    end++;
+                }
+                executeBatch(connection, type, records.subList(start, end));
+            } else {
+                while (end < records.size() && !CoalescingRecordQueue.isBarrier(records.get(end))) {
+                    final Saver.Record rec = records.get(end);
+                    (CoalescingRecordQueue.isRemove(rec) ? removes : adds)
+                            .computeIfAbsent(rec.type(), key -> new ArrayList<>()).add(rec);
+                    end++;
+                }
+                for (final Map.Entry<UpdateType, List<Saver.Record>> batch : removes.entrySet()) {
+                    executeBatch(connection, batch.getKey(), batch.getValue());
+                }
+                for (final Map.Entry<UpdateType, List<Saver.Record>> batch : adds.entrySet()) {
+                    executeBatch(connection, batch.getKey(), batch.getValue());
+                }
+                removes.clear();
+                adds.clear();
+            }
+            start = end;
+        }
+    }
+
+    private void executeBatch(final Connection connection, final UpdateType type, final List<Saver.Record> batch) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(type.createSql(prefix))) {
+            for (final Saver.Record rec : batch) {
+                setArguments(statement, rec.args());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void lockWrites() {
+        if (writeLock != null) {
+            writeLock.lock();
+        }
+    }
+
+    private void unlockWrites() {
+        if (writeLock != null) {
+            writeLock.unlock();
+        }
+    }
+
+    private void setArguments(final PreparedStatement statement, final String... args) throws SQLException {
+        for (int i = 0; i < args.length; i++) {
+            statement.setString(i + 1, args[i]);
         }
     }
 
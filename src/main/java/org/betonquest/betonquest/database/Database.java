@@ -1,17 +1,24 @@
 package org.betonquest.betonquest.database;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Abstract Database class, serves as a base for any connection method (MySQL,
  * SQLite, etc.)
+ * <p>
+ * Connections are handed out by a connection pool and must be closed after use to return them to the pool.
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidDuplicateLiterals"})
 public abstract class Database {
@@ -21,53 +28,113 @@ public abstract class Database {
 
     protected final String profileInitialName;
 
+    /**
+     * The maximum amount of connections in the pool.
+     */
+    protected final int maxPoolSize;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
     private final BetonQuestLogger log;
 
-    protected Connection con;
+    private HikariDataSource dataSource;
 
     protected Database(final BetonQuestLogger log, final BetonQuest plugin) {
         this.log = log;
         this.plugin = plugin;
         this.prefix = plugin.getPluginConfig().getString("mysql.prefix", "");
         this.profileInitialName = plugin.getPluginConfig().getString("profiles.initial_name", "");
+        this.maxPoolSize = Math.max(1, plugin.getPluginConfig().getInt("database.pool.max_size", 10));
     }
 
+    /**
+     * Gets a connection from the connection pool. The pool is created on first use.
+     * The connection must be closed after use, which returns it to the pool.
+     *
+     * @return a connection to the database or null if no connection could be established
+     */
+    @Nullable
     public Connection getConnection() {
         try {
-            if (con == null || con.isClosed()) {
-                con = openConnection();
-            }
-        } catch (final SQLException e) {
+            return getDataSource().getConnection();
+        } catch (final SQLException | HikariPool.PoolInitializationException e) {
             log.warn("Failed opening database connection: " + e.getMessage(), e);
+            return null;
         }
-        return con;
     }
 
-    protected abstract Connection openConnection() throws SQLException;
+    private HikariDataSource getDataSource() {
+        synchronized (this) {
+            if (dataSource == null || dataSource.isClosed()) {
+                final HikariConfig config = createPoolConfig();
+                config.setPoolName("BetonQuest-" + getClass().getSimpleName());
+                config.setMaximumPoolSize(maxPoolSize);
+                config.setMinimumIdle(Math.min(2, maxPoolSize));
+                dataSource = new HikariDataSource(config);
+            }
+            return dataSource;
+        }
+    }
 
-    public void closeConnection() {
-        try {
-            con.close();
+    /**
+     * Creates the configuration of the connection pool with the database specific settings.
+     * The pool name and size are set by the caller.
+     *
+     * @return the pool configuration
+     */
+    protected abstract HikariConfig createPoolConfig();
+
+    /**
+     * Gets the lock that must be held while writing to the database.
+     *
+     * @return the write lock or null if the database allows concurrent writers
+     */
+    @Nullable
+    public Lock getWriteLock() {
+        return null;
+    }
+
+    /**
+     * Checks if a connection to the database can be established.
+     *
+     * @return true if a connection could be established
+     */
+    public boolean isConnectionAvailable() {
+        try (Connection connection = getConnection()) {
+            return connection != null;
         } catch (final SQLException e) {
-            log.error("There was an exception with SQL", e);
+            log.warn("Failed closing database connection: " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Closes the connection pool and all of its connections.
+     */
+    public void closeConnection() {
+        synchronized (this) {
+            if (dataSource != null) {
+                dataSource.close();
+            }
+            dataSource = null;
         }
-        con = null;
     }
 
     public final void createTables() {
-        try {
+        try (Connection connection = getConnection()) {
+            if (connection == null) {
+                return;
+            }
             final SortedMap<MigrationKey, DatabaseUpdate> migrations = getMigrations();
-            final Set<MigrationKey> executedMigrations = queryExecutedMigrations(getConnection());
+            final Set<MigrationKey> executedMigrations = queryExecutedMigrations(connection);
             executedMigrations.forEach(migrations::remove);
 
             while (!migrations.isEmpty()) {
                 final MigrationKey key = migrations.firstKey();
                 final DatabaseUpdate migration = migrations.remove(key);
-                migration.executeUpdate(getConnection());
-                markMigrationExecuted(getConnection(), key);
+                migration.executeUpdate(connection);
+                markMigrationExecuted(connection, key);
             }
         } catch (final SQLException sqlException) {
             log.error("There was an exception with SQL", sqlException);
@@ -1,6 +1,7 @@
 package org.betonquest.betonquest.database;
 
 import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.ConditionCache;
 import org.betonquest.betonquest.Point;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.database.Saver.Record;
@@ -38,8 +39,7 @@ public class GlobalData implements TagData {
      * Loads all data for the player and puts it in appropriate lists.
      */
     public final void loadAllGlobalData() {
-        try {
-            final Connector con = new Connector();
+        try (Connector con = new Connector()) {
             try (ResultSet globalTags = con.querySQL(QueryType.LOAD_ALL_GLOBAL_TAGS);
                  ResultSet globalPoints = con.querySQL(QueryType.LOAD_ALL_GLOBAL_POINTS)) {
                 while (globalTags.next()) {
@@ -86,6 +86,7 @@ public class GlobalData implements TagData {
     public void addTag(final String tag) {
         if (!globalTags.contains(tag)) {
             globalTags.add(tag);
+            invalidateConditions();
             saver.add(new Record(UpdateType.ADD_GLOBAL_TAGS, tag));
         }
     }
@@ -99,6 +100,7 @@ public class GlobalData implements TagData {
     @Override
     public void removeTag(final String tag) {
         globalTags.remove(tag);
+        invalidateConditions();
         saver.add(new Record(UpdateType.REMOVE_GLOBAL_TAGS, tag));
     }
 
@@ -136,6 +138,7 @@ public class GlobalData implements TagData {
      * @param count    how much global_points will be added (or subtracted if negative)
      */
     public void modifyPoints(final String category, final int count) {
+        invalidateConditions();
         saver.add(new Record(UpdateType.REMOVE_GLOBAL_POINTS, category));
         // check if the category already exists
         for (final Point point : globalPoints) {
@@ -160,6 +163,7 @@ public class GlobalData implements TagData {
      * @param count    how much global_points will be set
      */
     public void setPoints(final String category, final int count) {
+        invalidateConditions();
         saver.add(new Record(UpdateType.REMOVE_GLOBAL_POINTS, category));
         globalPoints.removeIf(point -> point.getCategory().equalsIgnoreCase(category));
         globalPoints.add(new Point(category, count));
@@ -172,6 +176,7 @@ public class GlobalData implements TagData {
      * @param category name of a point category
      */
     public void removePointsCategory(final String category) {
+        invalidateConditions();
         Point pointToRemove = null;
         for (final Point point : globalPoints) {
             if (point.getCategory().equalsIgnoreCase(category)) {
@@ -191,6 +196,7 @@ public class GlobalData implements TagData {
         // clear all lists
         globalTags.clear();
         globalPoints.clear();
+        invalidateConditions();
         // clear the database
         saver.add(new Record(UpdateType.DELETE_GLOBAL_POINTS));
         saver.add(new Record(UpdateType.DELETE_GLOBAL_TAGS));
@@ -202,6 +208,7 @@ public class GlobalData implements TagData {
     public void purgeTags() {
         // clear all lists
         globalTags.clear();
+        invalidateConditions();
         // clear the database
         saver.add(new Record(UpdateType.DELETE_GLOBAL_TAGS));
     }
@@ -212,7 +219,15 @@ public class GlobalData implements TagData {
     public void purgePoints() {
         // clear all lists
         globalPoints.clear();
+        invalidateConditions();
         // clear the database
         saver.add(new Record(UpdateType.DELETE_GLOBAL_POINTS));
     }
+
+    private void invalidateConditions() {
+        final ConditionCache conditionCache = BetonQuest.getInstance().getConditionCache();
+        if (conditionCache != null) {
+            conditionCache.invalidateAll();
+        }
+    }
 }
@@ -1,11 +1,11 @@
 package org.betonquest.betonquest.database;
 
+import com.zaxxer.hikari.HikariConfig;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -20,11 +20,6 @@ import java.util.TreeMap;
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidDuplicateLiterals"})
 public class MySQL extends Database {
-    /**
-     * Custom {@link BetonQuestLogger} instance for this class.
-     */
-    private final BetonQuestLogger log;
-
     private final String user;
 
     private final String database;
@@ -35,6 +30,11 @@ public class MySQL extends Database {
 
     private final String hostname;
 
+    /**
+     * The amount of prepared statements cached per connection.
+     */
+    private final int statementCacheSize;
+
     /**
      * Creates a new MySQL instance
      *
@@ -47,25 +47,27 @@ public class MySQL extends Database {
      */
     public MySQL(final BetonQuestLogger log, final BetonQuest plugin, final String hostname, final String port, final String database, final String username, final String password) {
         super(log, plugin);
-        this.log = log;
         this.hostname = hostname;
         this.port = port;
         this.database = database;
         this.user = username;
         this.password = password;
+        this.statementCacheSize = plugin.getPluginConfig().getInt("database.pool.statement_cache_size", 250);
     }
 
     @Override
-    public Connection openConnection() {
-        Connection connection = null;
-        try {
-            Class.forName("com.mysql.jdbc.Driver");
-            connection = DriverManager.getConnection(
-                    "jdbc:mysql://" + this.hostname + ":" + this.port + "/" + this.database + "?&useSSL=false", this.user, this.password);
-        } catch (final ClassNotFoundException | SQLException e) {
-            log.warn("MySQL says: " + e.getMessage(), e);
-        }
-        return connection;
+    protected HikariConfig createPoolConfig() {
+        final HikariConfig config = new HikariConfig();
+        config.setDriverClassName("com.mysql.jdbc.Driver");
+        config.setJdbcUrl("jdbc:mysql://" + this.hostname + ":" + this.port + "/" + this.database + "?&useSSL=false");
+        config.setUsername(this.user);
+        config.setPassword(this.password);
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", String.valueOf(statementCacheSize));
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        return config;
     }
 
     @Override
@@ -74,6 +76,7 @@ public class MySQL extends Database {
         migrations.put(new MigrationKey("betonquest", 1), this::migration1);
         migrations.put(new MigrationKey("betonquest", 2), this::migration2);
         migrations.put(new MigrationKey("betonquest", 3), this::migration3);
+        migrations.put(new MigrationKey("betonquest", 4), this::migration4);
         return migrations;
     }
 
@@ -96,7 +99,7 @@ public class MySQL extends Database {
 
     @Override
     protected void markMigrationExecuted(final Connection connection, final MigrationKey migrationKey) throws SQLException {
-        try (PreparedStatement statement = getConnection().prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
             statement.setString(1, migrationKey.namespace());
             statement.setInt(2, migrationKey.version());
             statement.executeUpdate();
@@ -258,4 +261,23 @@ public class MySQL extends Database {
                     + "MODIFY COLUMN name VARCHAR(63) NOT NULL");
         }
     }
+
+    /**
+     * Executes the fourth migration, adding the table of delayed folder event executions.
+     *
+     * @param connection the connection to the database
+     * @throws SQLException if something goes wrong, while executing the query's
+     */
+    @SuppressFBWarnings("SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE")
+    private void migration4(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS " + prefix + "folder_events ("
+                    + "id CHAR(36) PRIMARY KEY NOT NULL, "
+                    + "profileID CHAR(36) NOT NULL, "
+                    + "events TEXT NOT NULL, "
+                    + "period_ticks BIGINT NOT NULL, "
+                    + "due_time BIGINT NOT NULL, "
+                    + "FOREIGN KEY (profileID) REFERENCES " + prefix + "profile (profileID) ON DELETE CASCADE)");
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package org.betonquest.betonquest.database;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A size and time bounded cache of {@link PlayerData} for profiles that are not online.
+ * <p>
+ * All changes to a cached {@link PlayerData} are written to the database by the {@link Saver}
+ * as usual, so entries can be dropped at any time without losing data.
+ * When the player joins, the entry is removed and handed over to the online player data,
+ * and when the player quits, the online player data is put back.
+ * Entries expire a fixed time after they were loaded or put, no matter how often they are used,
+ * so changes made to the database by other servers are picked up again.
+ * <p>
+ * This class is thread safe.
+ */
+public class OfflinePlayerDataCache {
+    /**
+     * The cached player data.
+     */
+    private final LoadingCache<Profile, PlayerData> cache;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize          the maximum amount of cached profiles, 0 disables the cache
+     * @param expireAfterWrite the time after which an entry is dropped
+     */
+    public OfflinePlayerDataCache(final long maxSize, final Duration expireAfterWrite) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(CacheLoader.from(PlayerData::new));
+    }
+
+    /**
+     * Gets the cached data of the profile or loads it from the database.
+     *
+     * @param profile the profile to get the data for
+     * @return the data of the profile
+     */
+    public PlayerData get(final Profile profile) {
+        return cache.getUnchecked(profile);
+    }
+
+    /**
+     * Puts the data of the profile into the cache, for example because the player quit.
+     *
+     * @param profile    the profile the data belongs to
+     * @param playerData the data of the profile
+     */
+    public void put(final Profile profile, final PlayerData playerData) {
+        cache.put(profile, playerData);
+    }
+
+    /**
+     * Removes the data of the profile from the cache, for example because the player joined.
+     *
+     * @param profile the profile to remove the data for
+     * @return the removed data or null if it was not cached
+     */
+    @Nullable
+    public PlayerData remove(final Profile profile) {
+        return cache.asMap().remove(profile);
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Gets the amount of cached profiles.
+     *
+     * @return the size of the cache
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the hit and miss statistics of the cache.
+     *
+     * @return the cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
@@ -2,6 +2,7 @@ package org.betonquest.betonquest.database;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.ConditionCache;
 import org.betonquest.betonquest.Journal;
 import org.betonquest.betonquest.Point;
 import org.betonquest.betonquest.Pointer;
@@ -11,18 +12,20 @@ import org.betonquest.betonquest.api.PlayerTagRemoveEvent;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.config.Config;
+import org.betonquest.betonquest.database.ProfileDataLoader.StoredProfileData;
 import org.betonquest.betonquest.database.Saver.Record;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.id.ObjectiveID;
+import org.betonquest.betonquest.item.ItemCountIndex;
 import org.betonquest.betonquest.item.QuestItem;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -74,76 +77,82 @@ public class PlayerData implements TagData {
     }
 
     /**
-     * Loads all data for the profile and puts it in appropriate lists.
+     * Creates the PlayerData of the given {@link Profile} from already loaded data.
+     *
+     * @param profile    the profile to create the data for
+     * @param storedData the data of the profile loaded from the database
      */
-    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity", "PMD.CognitiveComplexity", "PMD.AvoidDuplicateLiterals"})
-    public final void loadAllPlayerData() {
-        try {
-
-            final Connector con = new Connector();
-
-            try (ResultSet objectiveResults = con.querySQL(QueryType.SELECT_OBJECTIVES, profileID);
-                 ResultSet tagResults = con.querySQL(QueryType.SELECT_TAGS, profileID);
-                 ResultSet journalResults = con.querySQL(QueryType.SELECT_JOURNAL, profileID);
-                 ResultSet pointResults = con.querySQL(QueryType.SELECT_POINTS, profileID);
-                 ResultSet backpackResults = con.querySQL(QueryType.SELECT_BACKPACK, profileID);
-                 ResultSet playerResult = con.querySQL(QueryType.SELECT_PLAYER, profileID)) {
-
-                while (objectiveResults.next()) {
-                    objectives.put(objectiveResults.getString("objective"), objectiveResults.getString("instructions"));
-                }
-
-                while (tagResults.next()) {
-                    tags.add(tagResults.getString("tag"));
-                }
-
-                while (journalResults.next()) {
-                    entries.add(new Pointer(journalResults.getString("pointer"), journalResults.getTimestamp("date").getTime()));
-                }
+    private PlayerData(final Profile profile, final StoredProfileData storedData) {
+        this.profile = profile;
+        this.profileID = profile.getProfileUUID().toString();
+        applyStoredData(storedData);
+    }
 
-                while (pointResults.next()) {
-                    points.add(new Point(pointResults.getString("category"), pointResults.getInt("count")));
-                }
+    /**
+     * Loads the PlayerData of all given {@link Profile}s with as few database queries as possible.
+     *
+     * @param profiles the profiles to load the data for
+     * @param <T>      the type of the profiles
+     * @return the loaded PlayerData by profile
+     */
+    public static <T extends Profile> Map<T, PlayerData> loadAll(final Collection<T> profiles) {
+        final Map<String, StoredProfileData> storedData = BetonQuest.getInstance().getProfileDataLoader()
+                .loadAll(profiles.stream().map(profile -> profile.getProfileUUID().toString()).toList());
+        final Map<T, PlayerData> playerData = new LinkedHashMap<>();
+        for (final T profile : profiles) {
+            playerData.put(profile, new PlayerData(profile, storedData.get(profile.getProfileUUID().toString())));
+        }
+        return playerData;
+    }
 
-                while (backpackResults.next()) {
-                    final String instruction = backpackResults.getString("instruction");
-                    final int amount = backpackResults.getInt("amount");
-                    final ItemStack item;
-                    try {
-                        item = new QuestItem(instruction).generate(amount);
-                    } catch (final InstructionParseException e) {
-                        log.warn("Could not load backpack item for " + profile
-                                + ", with instruction '" + instruction + "', because: " + e.getMessage(), e);
-                        continue;
-                    }
-                    backpack.add(item);
-                }
+    /**
+     * Loads all data for the profile and puts it in appropriate lists.
+     */
+    public final void loadAllPlayerData() {
+        applyStoredData(BetonQuest.getInstance().getProfileDataLoader().load(profileID));
+    }
 
-                if (playerResult.next()) {
-                    profileLanguage = playerResult.getString("language");
-                    if ("default".equals(profileLanguage)) {
-                        profileLanguage = Config.getLanguage();
-                    }
-                    conv = playerResult.getString("conversation");
-                    if (conv == null || conv.equalsIgnoreCase("null")) {
-                        conv = null;
-                    }
-                } else {
-                    profileLanguage = Config.getLanguage();
-                    saver.add(new Record(UpdateType.ADD_PROFILE, profileID));
-                    saver.add(new Record(UpdateType.ADD_PLAYER, profile.getPlayer().getUniqueId().toString(),
-                            profileID, "default"));
-                    saver.add(new Record(UpdateType.ADD_PLAYER_PROFILE, profile.getPlayer().getUniqueId().toString(),
-                            profileID, BetonQuest.getInstance().getPluginConfig().getString("profiles.initial_name", "default")));
-                }
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private void applyStoredData(final StoredProfileData storedData) {
+        objectives.putAll(storedData.getObjectives());
+        tags.addAll(storedData.getTags());
+        entries.addAll(storedData.getJournal());
+        points.addAll(storedData.getPoints());
+
+        for (final Map.Entry<String, Integer> backpackEntry : storedData.getBackpack()) {
+            final String instruction = backpackEntry.getKey();
+            final ItemStack item;
+            try {
+                item = new QuestItem(instruction).generate(backpackEntry.getValue());
+            } catch (final InstructionParseException e) {
+                log.warn("Could not load backpack item for " + profile
+                        + ", with instruction '" + instruction + "', because: " + e.getMessage(), e);
+                continue;
+            }
+            backpack.add(item);
+        }
 
-                log.debug("There are " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
-                        + " points, " + entries.size() + " journal entries and " + backpack.size()
-                        + " items loaded for " + profile);
+        if (storedData.isPlayerFound()) {
+            profileLanguage = storedData.getLanguage();
+            if ("default".equals(profileLanguage)) {
+                profileLanguage = Config.getLanguage();
             }
-        } catch (final SQLException e) {
-            log.error("There was an exception with SQL", e);
+            conv = storedData.getConversation();
+            if (conv == null || conv.equalsIgnoreCase("null")) {
+                conv = null;
+            }
+        } else {
+            profileLanguage = Config.getLanguage();
+            saver.add(new Record(UpdateType.ADD_PROFILE, profileID));
+            saver.add(new Record(UpdateType.ADD_PLAYER, profile.getPlayer().getUniqueId().toString(),
+                    profileID, "default"));
+            saver.add(new Record(UpdateType.ADD_PLAYER_PROFILE, profile.getPlayer().getUniqueId().toString(),
+                    profileID, BetonQuest.getInstance().getPluginConfig().getString("profiles.initial_name", "default")));
         }
+
+        log.debug("There are " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
+                + " points, " + entries.size() + " journal entries and " + backpack.size()
+                + " items loaded for " + profile);
     }
 
     /**
@@ -177,6 +186,7 @@ public class PlayerData implements TagData {
         synchronized (tags) {
             if (!tags.contains(tag)) {
                 tags.add(tag);
+                invalidateConditions();
                 saver.add(new Record(UpdateType.ADD_TAGS, profileID, tag));
                 BetonQuest.getInstance()
                         .callSyncBukkitEvent(new PlayerTagAddEvent(profile, tag));
@@ -195,6 +205,7 @@ public class PlayerData implements TagData {
         synchronized (tags) {
             if (tags.contains(tag)) {
                 tags.remove(tag);
+                invalidateConditions();
                 saver.add(new Record(UpdateType.REMOVE_TAGS, profileID, tag));
                 BetonQuest.getInstance()
                         .callSyncBukkitEvent(new PlayerTagRemoveEvent(profile, tag));
@@ -239,6 +250,8 @@ public class PlayerData implements TagData {
      */
     public void modifyPoints(final String category, final int count) {
         synchronized (points) {
+            invalidateJournalPoint(category);
+            invalidateConditions();
             saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
             // check if the category already exists
             for (final Point point : points) {
@@ -265,6 +278,8 @@ public class PlayerData implements TagData {
      */
     public void setPoints(final String category, final int count) {
         synchronized (points) {
+            invalidateJournalPoint(category);
+            invalidateConditions();
             saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
             points.removeIf(point -> point.getCategory().equalsIgnoreCase(category));
             points.add(new Point(category, count));
@@ -279,6 +294,8 @@ public class PlayerData implements TagData {
      */
     public void removePointsCategory(final String category) {
         synchronized (points) {
+            invalidateJournalPoint(category);
+            invalidateConditions();
             Point pointToRemove = null;
             for (final Point point : points) {
                 if (point.getCategory().equalsIgnoreCase(category)) {
@@ -292,6 +309,38 @@ public class PlayerData implements TagData {
         }
     }
 
+    private void invalidateConditions() {
+        final ConditionCache conditionCache = BetonQuest.getInstance().getConditionCache();
+        if (conditionCache != null) {
+            conditionCache.invalidate(profile);
+        }
+    }
+
+    private void invalidateItemCounts() {
+        final ItemCountIndex itemCountIndex = BetonQuest.getInstance().getItemCountIndex();
+        if (itemCountIndex != null) {
+            itemCountIndex.invalidate(profile.getPlayerUUID());
+        }
+    }
+
+    /**
+     * Marks the journal entries that display properties of the objective as outdated.
+     * Does nothing if the journal was not created yet.
+     *
+     * @param objectiveID the full ID of the objective that changed
+     */
+    public void invalidateJournalObjective(final String objectiveID) {
+        if (journal != null) {
+            journal.invalidateObjective(objectiveID);
+        }
+    }
+
+    private void invalidateJournalPoint(final String category) {
+        if (journal != null) {
+            journal.invalidatePoint(category);
+        }
+    }
+
     /**
      * Returns a Journal instance or creates it if it does not exist.
      *
@@ -404,6 +453,16 @@ public class PlayerData implements TagData {
         return (List<ItemStack>) copyItemList(backpack, new ArrayList<>());
     }
 
+    /**
+     * Returns a read-only view of player's backpack without copying the items.
+     * The items must not be modified, use {@link #getBackpack()} to get modifiable copies.
+     *
+     * @return unmodifiable list of the itemstacks in the backpack
+     */
+    public List<ItemStack> getBackpackView() {
+        return Collections.unmodifiableList(backpack);
+    }
+
     /**
      * Updates the database with a list of backpack items.
      *
@@ -411,6 +470,7 @@ public class PlayerData implements TagData {
      */
     public void setBackpack(final List<ItemStack> list) {
         this.backpack = (List<ItemStack>) copyItemList(list, new CopyOnWriteArrayList<>());
+        invalidateItemCounts();
 
         // update the database (quite expensive way, should be changed)
         saver.add(new Record(UpdateType.DELETE_BACKPACK, profileID));
@@ -473,6 +533,7 @@ public class PlayerData implements TagData {
             }
             backpack.add(newItem);
         }
+        invalidateItemCounts();
         // update the database (quite expensive way, should be changed)
         saver.add(new Record(UpdateType.DELETE_BACKPACK, profileID));
         for (final ItemStack itemStack : backpack) {
@@ -511,6 +572,16 @@ public class PlayerData implements TagData {
         return conv;
     }
 
+    /**
+     * Sets the conversation that is resumed when the player joins again and saves it.
+     *
+     * @param conversation the conversation data or null if there is no conversation to resume
+     */
+    public void setConversation(@Nullable final String conversation) {
+        conv = conversation;
+        saver.add(new Record(UpdateType.UPDATE_CONVERSATION, conversation == null ? "null" : conversation, profileID));
+    }
+
     /**
      * Purges all profile's data from the database and from this object.
      */
@@ -522,16 +593,19 @@ public class PlayerData implements TagData {
         objectives.clear();
         tags.clear();
         points.clear();
+        invalidateConditions();
         entries.clear();
         getJournal().clear(); // journal can be null, so use a method to get it
         backpack.clear();
+        invalidateItemCounts();
         // clear the database
         saver.add(new Record(UpdateType.DELETE_OBJECTIVES, profileID));
         saver.add(new Record(UpdateType.DELETE_JOURNAL, profileID));
         saver.add(new Record(UpdateType.DELETE_POINTS, profileID));
         saver.add(new Record(UpdateType.DELETE_TAGS, profileID));
         saver.add(new Record(UpdateType.DELETE_BACKPACK, profileID));
-        saver.add(new Record(UpdateType.UPDATE_CONVERSATION, "null", profileID));
+        setConversation(null);
+        BetonQuest.getInstance().getFolderEventScheduler().purge(profile);
         // update the journal so it's empty
         if (profile.getOnlineProfile().isPresent()) {
             getJournal().update();
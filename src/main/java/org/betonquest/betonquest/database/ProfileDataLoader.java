@@ -0,0 +1,321 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.Point;
+import org.betonquest.betonquest.Pointer;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Loads the stored data of profiles with a single query per batch of profiles.
+ * <p>
+ * Objectives, tags, journal entries, points, backpack items and player settings are fetched
+ * with one {@code UNION ALL} query. Multiple profiles are fetched together with {@code IN (...)} clauses.
+ * <p>
+ * Concurrent requests, for example from many players logging in at the same time, are grouped:
+ * while one batch is loaded, new requests are queued and then loaded together in the next batch.
+ */
+public final class ProfileDataLoader {
+    /**
+     * The maximum amount of profiles fetched by one query.
+     * Each profile needs six parameters, this keeps the query below the SQLite parameter limit.
+     */
+    private static final int MAX_PROFILES_PER_QUERY = 100;
+
+    /**
+     * Row type of an objective.
+     */
+    private static final int OBJECTIVE = 0;
+
+    /**
+     * Row type of a tag.
+     */
+    private static final int TAG = 1;
+
+    /**
+     * Row type of a journal entry.
+     */
+    private static final int JOURNAL = 2;
+
+    /**
+     * Row type of a point category.
+     */
+    private static final int POINT = 3;
+
+    /**
+     * Row type of a backpack item.
+     */
+    private static final int BACKPACK = 4;
+
+    /**
+     * Row type of the player settings.
+     */
+    private static final int PLAYER = 5;
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * Requests waiting to be loaded.
+     */
+    private final Queue<Request> pending;
+
+    /**
+     * Lock held while a batch is loaded.
+     */
+    private final Object loadLock;
+
+    /**
+     * Creates a new loader.
+     *
+     * @param log the logger that will be used for logging
+     */
+    public ProfileDataLoader(final BetonQuestLogger log) {
+        this.log = log;
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.loadLock = new Object();
+    }
+
+    /**
+     * Creates the SQL code that loads the data of the given amount of profiles.
+     *
+     * @param prefix       table prefix to use
+     * @param profileCount the amount of profiles
+     * @return SQL-code for the query
+     */
+    static String createSql(final String prefix, final int profileCount) {
+        final String parameters = "(" + "?, ".repeat(profileCount - 1) + "?)";
+        return "SELECT profileID, " + OBJECTIVE + " AS type, objective AS text, instructions AS data, NULL AS number, NULL AS date FROM "
+                + prefix + "objectives WHERE profileID IN " + parameters
+                + " UNION ALL SELECT profileID, " + TAG + ", tag, NULL, NULL, NULL FROM "
+                + prefix + "tags WHERE profileID IN " + parameters
+                + " UNION ALL SELECT profileID, " + JOURNAL + ", pointer, NULL, NULL, date FROM "
+                + prefix + "journal WHERE profileID IN " + parameters
+                + " UNION ALL SELECT profileID, " + POINT + ", category, NULL, count, NULL FROM "
+                + prefix + "points WHERE profileID IN " + parameters
+                + " UNION ALL SELECT profileID, " + BACKPACK + ", instruction, NULL, amount, NULL FROM "
+                + prefix + "backpack WHERE profileID IN " + parameters
+                + " UNION ALL SELECT playerID, " + PLAYER + ", language, conversation, NULL, NULL FROM "
+                + prefix + "player WHERE playerID IN " + parameters + ";";
+    }
+
+    /**
+     * Loads the stored data of a single profile. If other threads request data at the same time,
+     * their profiles are loaded with the same query.
+     *
+     * If loading the batch fails, the requests of all threads in the batch fail.
+     *
+     * @param profileID the ID of the profile
+     * @return the stored data of the profile
+     * @throws java.util.concurrent.CompletionException if the batch of another thread failed to load
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public StoredProfileData load(final String profileID) {
+        final Request request = new Request(profileID);
+        pending.add(request);
+        synchronized (loadLock) {
+            if (!request.result.isDone()) {
+                final List<Request> batch = new ArrayList<>();
+                Request next = pending.poll();
+                while (next != null) {
+                    batch.add(next);
+                    next = pending.poll();
+                }
+                try {
+                    final Map<String, StoredProfileData> loaded = loadAll(batch.stream().map(Request::profileID).toList());
+                    for (final Request loadedRequest : batch) {
+                        loadedRequest.result.complete(loaded.get(loadedRequest.profileID()));
+                    }
+                } catch (final RuntimeException e) {
+                    failAll(batch, e);
+                    throw e;
+                } finally {
+                    failAll(batch, new IllegalStateException("The profile data of the batch was not loaded"));
+                }
+            }
+        }
+        return request.result.join();
+    }
+
+    private static void failAll(final List<Request> batch, final Throwable cause) {
+        for (final Request batchRequest : batch) {
+            batchRequest.result.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Loads the stored data of all given profiles.
+     *
+     * @param profileIDs the IDs of the profiles
+     * @return the stored data by profile ID, containing an entry for each given profile
+     */
+    public Map<String, StoredProfileData> loadAll(final Collection<String> profileIDs) {
+        final Map<String, StoredProfileData> loaded = new LinkedHashMap<>();
+        for (final String profileID : profileIDs) {
+            loaded.put(profileID, new StoredProfileData());
+        }
+        final List<String> distinctIDs = new ArrayList<>(loaded.keySet());
+        try (Connector con = new Connector()) {
+            for (int start = 0; start < distinctIDs.size(); start += MAX_PROFILES_PER_QUERY) {
+                final List<String> chunk = distinctIDs.subList(start, Math.min(start + MAX_PROFILES_PER_QUERY, distinctIDs.size()));
+                loadChunk(con, chunk, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void loadChunk(final Connector con, final List<String> profileIDs, final Map<String, StoredProfileData> loaded) {
+        final String sql = createSql(con.getPrefix(), profileIDs.size());
+        try (ResultSet result = con.querySQL(sql, statement -> {
+            int index = 1;
+            for (int table = OBJECTIVE; table <= PLAYER; table++) {
+                for (final String profileID : profileIDs) {
+                    statement.setString(index, profileID);
+                    index++;
+                }
+            }
+        })) {
+            if (result == null) {
+                return;
+            }
+            while (result.next()) {
+                final StoredProfileData data = loaded.get(result.getString("profileID"));
+                if (data != null) {
+                    readRow(result, data);
+                }
+            }
+        } catch (final SQLException e) {
+            log.error("There was an exception with SQL", e);
+        }
+    }
+
+    private void readRow(final ResultSet result, final StoredProfileData data) throws SQLException {
+        switch (result.getInt("type")) {
+            case OBJECTIVE -> data.objectives.put(result.getString("text"), result.getString("data"));
+            case TAG -> data.tags.add(result.getString("text"));
+            case JOURNAL -> {
+                final Timestamp date = result.getTimestamp("date");
+                data.journal.add(new Pointer(result.getString("text"), date.getTime()));
+            }
+            case POINT -> data.points.add(new Point(result.getString("text"), result.getInt("number")));
+            case BACKPACK -> data.backpack.add(Map.entry(result.getString("text"), result.getInt("number")));
+            case PLAYER -> {
+                data.playerFound = true;
+                data.language = result.getString("text");
+                data.conversation = result.getString("data");
+            }
+            default -> log.warn("Unknown row type while loading profile data: " + result.getInt("type"));
+        }
+    }
+
+    /**
+     * A request to load the data of a profile.
+     *
+     * @param profileID the ID of the profile
+     * @param result    the future completed with the loaded data
+     */
+    private record Request(String profileID, CompletableFuture<StoredProfileData> result) {
+        private Request(final String profileID) {
+            this(profileID, new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * The data of a profile as stored in the database.
+     */
+    @SuppressWarnings({"PMD.DataClass", "PMD.CommentRequired"})
+    public static final class StoredProfileData {
+        /**
+         * Objective IDs and their data instructions.
+         */
+        private final Map<String, String> objectives = new HashMap<>();
+
+        /**
+         * Tags of the profile.
+         */
+        private final List<String> tags = new ArrayList<>();
+
+        /**
+         * Journal entries of the profile.
+         */
+        private final List<Pointer> journal = new ArrayList<>();
+
+        /**
+         * Point categories of the profile.
+         */
+        private final List<Point> points = new ArrayList<>();
+
+        /**
+         * Backpack item instructions and their amounts, in stored order.
+         */
+        private final List<Map.Entry<String, Integer>> backpack = new ArrayList<>();
+
+        /**
+         * Whether the player row exists.
+         */
+        private boolean playerFound;
+
+        /**
+         * Stored language of the player.
+         */
+        @Nullable
+        private String language;
+
+        /**
+         * Stored active conversation of the player.
+         */
+        @Nullable
+        private String conversation;
+
+        private StoredProfileData() {
+        }
+
+        public Map<String, String> getObjectives() {
+            return objectives;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public List<Pointer> getJournal() {
+            return journal;
+        }
+
+        public List<Point> getPoints() {
+            return points;
+        }
+
+        public List<Map.Entry<String, Integer>> getBackpack() {
+            return backpack;
+        }
+
+        public boolean isPlayerFound() {
+            return playerFound;
+        }
+
+        @Nullable
+        public String getLanguage() {
+            return language;
+        }
+
+        @Nullable
+        public String getConversation() {
+            return conversation;
+        }
+    }
+}
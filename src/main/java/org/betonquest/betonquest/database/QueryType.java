@@ -13,6 +13,7 @@ public enum QueryType {
     SELECT_POINTS(prefix -> "SELECT category, count FROM " + prefix + "points WHERE profileID = ?;"),
     SELECT_JOURNAL(prefix -> "SELECT pointer, date FROM " + prefix + "journal WHERE profileID = ?;"),
     SELECT_BACKPACK(prefix -> "SELECT instruction, amount FROM " + prefix + "backpack WHERE profileID = ?;"),
+    SELECT_FOLDER_EVENTS(prefix -> "SELECT id, events, period_ticks, due_time FROM " + prefix + "folder_events WHERE profileID = ?;"),
     SELECT_PLAYER(prefix -> "SELECT language, conversation FROM " + prefix + "player WHERE playerID = ?;"),
 
     SELECT_PLAYERS_TAGS(prefix -> "SELECT profileID FROM " + prefix + "tags GROUP BY profileID;"),
@@ -30,6 +31,7 @@ public enum QueryType {
     LOAD_ALL_POINTS(prefix -> "SELECT * FROM " + prefix + "points"),
     LOAD_ALL_JOURNALS(prefix -> "SELECT * FROM " + prefix + "journal"),
     LOAD_ALL_BACKPACK(prefix -> "SELECT * FROM " + prefix + "backpack"),
+    LOAD_ALL_FOLDER_EVENTS(prefix -> "SELECT * FROM " + prefix + "folder_events"),
     LOAD_ALL_PLAYER(prefix -> "SELECT * FROM " + prefix + "player"),
     LOAD_ALL_MIGRATION(prefix -> "SELECT * FROM " + prefix + "migration"),
     LOAD_ALL_PLAYER_PROFILE(prefix -> "SELECT * FROM " + prefix + "player_profile"),
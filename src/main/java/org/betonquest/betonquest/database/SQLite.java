@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.database;
 
+import com.zaxxer.hikari.HikariConfig;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
@@ -7,7 +8,6 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import java.io.File;
 import java.io.IOException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -16,6 +16,8 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Connects to and uses a SQLite database
@@ -29,6 +31,11 @@ public class SQLite extends Database {
 
     private final String dbLocation;
 
+    /**
+     * Lock that serializes all writes to the database.
+     */
+    private final Lock writeLock;
+
     /**
      * Creates a new SQLite instance
      *
@@ -39,11 +46,12 @@ public class SQLite extends Database {
         super(log, plugin);
         this.log = log;
         this.dbLocation = dbLocation;
+        this.writeLock = new ReentrantLock();
     }
 
     @Override
     @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
-    public Connection openConnection() {
+    protected HikariConfig createPoolConfig() {
         if (!plugin.getDataFolder().exists()) {
             plugin.getDataFolder().mkdirs();
         }
@@ -55,15 +63,22 @@ public class SQLite extends Database {
                 log.error("Unable to create database!", e);
             }
         }
-        Connection connection = null;
-        try {
-            Class.forName("org.sqlite.JDBC");
-            connection = DriverManager
-                    .getConnection("jdbc:sqlite:" + plugin.getDataFolder().toPath() + "/" + dbLocation);
-        } catch (ClassNotFoundException | SQLException e) {
-            log.error("There was an exception with SQL", e);
-        }
-        return connection;
+        final HikariConfig config = new HikariConfig();
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.setJdbcUrl("jdbc:sqlite:" + plugin.getDataFolder().toPath() + "/" + dbLocation);
+        config.addDataSourceProperty("journal_mode", "WAL");
+        config.addDataSourceProperty("busy_timeout", "10000");
+        return config;
+    }
+
+    /**
+     * SQLite only allows a single writer, so all writes are serialized to avoid busy errors.
+     *
+     * @return the write lock of this database
+     */
+    @Override
+    public Lock getWriteLock() {
+        return writeLock;
     }
 
     @Override
@@ -72,6 +87,7 @@ public class SQLite extends Database {
         migrations.put(new MigrationKey("betonquest", 1), this::migration1);
         migrations.put(new MigrationKey("betonquest", 2), this::migration2);
         migrations.put(new MigrationKey("betonquest", 3), this::migration3);
+        migrations.put(new MigrationKey("betonquest", 4), this::migration4);
         return migrations;
     }
 
@@ -93,7 +109,7 @@ public class SQLite extends Database {
 
     @Override
     protected void markMigrationExecuted(final Connection connection, final MigrationKey migrationKey) throws SQLException {
-        try (PreparedStatement statement = getConnection().prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + prefix + "migration (namespace, migration_id) VALUES (?,?)")) {
             statement.setString(1, migrationKey.namespace());
             statement.setInt(2, migrationKey.version());
             statement.executeUpdate();
@@ -276,4 +292,23 @@ public class SQLite extends Database {
                     + "RENAME TO " + prefix + "player_profile");
         }
     }
+
+    /**
+     * Executes the fourth migration, adding the table of delayed folder event executions.
+     *
+     * @param connection the connection to the database
+     * @throws SQLException if something goes wrong, while executing the query's
+     */
+    @SuppressFBWarnings("SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE")
+    private void migration4(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS " + prefix + "folder_events ("
+                    + "id CHAR(36) PRIMARY KEY NOT NULL, "
+                    + "profileID CHAR(36) NOT NULL, "
+                    + "events TEXT NOT NULL, "
+                    + "period_ticks INTEGER NOT NULL, "
+                    + "due_time INTEGER NOT NULL, "
+                    + "FOREIGN KEY (profileID) REFERENCES " + prefix + "profile (profileID) ON DELETE CASCADE)");
+        }
+    }
 }
@@ -50,6 +50,11 @@ public enum UpdateType {
      * Add single player profile to the database. PlayerID, profileID, name.
      */
     ADD_PLAYER_PROFILE(prefix -> "INSERT INTO " + prefix + "player_profile (playerID, profileID, name) VALUES (?, ?, ?);"),
+    /**
+     * Add single delayed folder event execution to the database. ID, profileID, events, period in ticks,
+     * due time in epoch milliseconds.
+     */
+    ADD_FOLDER_EVENT(prefix -> "INSERT INTO " + prefix + "folder_events (id, profileID, events, period_ticks, due_time) VALUES (?, ?, ?, ?, ?);"),
     /**
      * Removes the single objective from the database. ProfileID,
      * objectiveID.
@@ -76,6 +81,10 @@ public enum UpdateType {
      * date.
      */
     REMOVE_JOURNAL(prefix -> "DELETE FROM " + prefix + "journal WHERE profileID = ? AND pointer = ? AND date = ?;"),
+    /**
+     * Removes single delayed folder event execution from the database. ID.
+     */
+    REMOVE_FOLDER_EVENT(prefix -> "DELETE FROM " + prefix + "folder_events WHERE id = ?;"),
     /**
      * Removes single profile from the database. ProfileID.
      */
@@ -90,6 +99,7 @@ public enum UpdateType {
     DELETE_POINTS(prefix -> "DELETE FROM " + prefix + "points WHERE profileID = ?;"),
     DELETE_JOURNAL(prefix -> "DELETE FROM " + prefix + "journal WHERE profileID = ?;"),
     DELETE_BACKPACK(prefix -> "DELETE FROM " + prefix + "backpack WHERE profileID = ?;"),
+    DELETE_FOLDER_EVENTS(prefix -> "DELETE FROM " + prefix + "folder_events WHERE profileID = ?;"),
     DELETE_PLAYER(prefix -> "DELETE FROM " + prefix + "player WHERE playerID = ?;"),
 
     DELETE_GLOBAL_TAGS(prefix -> "DELETE FROM " + prefix + "global_tags"),
@@ -111,6 +121,7 @@ public enum UpdateType {
     DROP_PLAYER(prefix -> "DROP TABLE " + prefix + "player"),
     DROP_PLAYER_PROFILE(prefix -> "DROP TABLE " + prefix + "player_profile"),
     DROP_PROFILE(prefix -> "DROP TABLE " + prefix + "profile"),
+    DROP_FOLDER_EVENTS(prefix -> "DROP TABLE " + prefix + "folder_events"),
     DROP_MIRGATION(prefix -> "DROP TABLE " + prefix + "migration"),
 
     DROP_GLOBAL_TAGS(prefix -> "DROP TABLE " + prefix + "global_tags"),
@@ -124,6 +135,7 @@ public enum UpdateType {
     INSERT_PLAYER(prefix -> "INSERT INTO " + prefix + "player (playerID, active_profile, language, conversation) VALUES (?,?,?,?);"),
     INSERT_PROFILE(prefix -> "INSERT INTO " + prefix + "profile (profileID) VALUES (?);"),
     INSERT_PLAYER_PROFILE(prefix -> "INSERT INTO " + prefix + "player_profile (playerID, profileID, name) VALUES (?,?,?);"),
+    INSERT_FOLDER_EVENT(prefix -> "INSERT INTO " + prefix + "folder_events (id, profileID, events, period_ticks, due_time) VALUES (?,?,?,?,?)"),
     INSERT_MIGRATION(prefix -> "INSERT INTO " + prefix + "migration (namespace, version, time) VALUES (?,?,?);"),
 
     INSERT_GLOBAL_TAG(prefix -> "INSERT INTO " + prefix + "global_tags (tag) VALUES (?)"),
@@ -82,6 +82,7 @@ public abstract class AbstractTakeEvent extends QuestEvent {
                     break;
             }
         }
+        BetonQuest.getInstance().getItemCountIndex().invalidate(player.getUniqueId());
     }
 
     protected void notifyPlayer(final OnlineProfile onlineProfile, final String itemName, final int amount) {
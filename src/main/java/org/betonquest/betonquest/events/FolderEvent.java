@@ -8,7 +8,6 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.id.EventID;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -73,31 +72,14 @@ public class FolderEvent extends QuestEvent {
                 BetonQuest.event(profile, event);
             }
         } else if (execPeriod == null) {
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    for (final EventID event : chosenList) {
-                        BetonQuest.event(profile, event);
-                    }
-                }
-            }.runTaskLater(BetonQuest.getInstance(), execDelay);
+            BetonQuest.getInstance().getFolderEventScheduler().schedule(profile, chosenList, execDelay, 0);
         } else {
             if (execDelay == null && !chosenList.isEmpty()) {
                 final EventID event = chosenList.remove(0);
                 BetonQuest.event(profile, event);
             }
-            if (!chosenList.isEmpty()) {
-                new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        final EventID event = chosenList.remove(0);
-                        if (chosenList.isEmpty()) {
-                            this.cancel();
-                        }
-                        BetonQuest.event(profile, event);
-                    }
-                }.runTaskTimer(BetonQuest.getInstance(), execDelay == null ? execPeriod : execDelay, execPeriod);
-            }
+            BetonQuest.getInstance().getFolderEventScheduler().schedule(profile, chosenList,
+                    execDelay == null ? execPeriod : execDelay, execPeriod);
         }
         return null;
     }
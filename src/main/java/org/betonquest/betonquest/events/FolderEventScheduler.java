@@ -0,0 +1,414 @@
+package org.betonquest.betonquest.events;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.OnlineProfile;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.database.Connector;
+import org.betonquest.betonquest.database.QueryType;
+import org.betonquest.betonquest.database.Saver;
+import org.betonquest.betonquest.database.Saver.Record;
+import org.betonquest.betonquest.database.UpdateType;
+import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
+import org.betonquest.betonquest.id.EventID;
+import org.betonquest.betonquest.id.ID;
+import org.betonquest.betonquest.utils.PlayerConverter;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Schedules the delayed executions of {@link FolderEvent}s of all profiles in one {@link TimingWheel}.
+ * <p>
+ * A single task advances the wheel every tick. Every execution is stored in the database when it is scheduled,
+ * stored again when a period passed and removed when it is done, so executions survive restarts.
+ * The executions of a profile are read from the database before the player logs in, but only scheduled
+ * once the player joined, and cancelled when the player quits. The stored ones continue the next time the player joins.
+ * Executions that became due while the player was offline run with the next tick.
+ * Static executions are not stored, as they are not bound to a profile.
+ * <p>
+ * This class is thread safe, the events are run on the thread of the task.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public class FolderEventScheduler implements Listener {
+    /**
+     * The milliseconds of a tick.
+     */
+    private static final long MILLIS_PER_TICK = 50;
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The plugin to schedule the loading tasks for.
+     */
+    private final Plugin plugin;
+
+    /**
+     * The saver to store the executions with.
+     */
+    private final Saver saver;
+
+    /**
+     * Instant source to get the current time.
+     */
+    private final InstantSource instantSource;
+
+    /**
+     * The wheel of the pending executions.
+     */
+    private final TimingWheel<Execution> wheel;
+
+    /**
+     * The timers of the pending executions by execution ID.
+     */
+    private final Map<String, TimingWheel.Timer<Execution>> timers;
+
+    /**
+     * The IDs of the pending executions by profile UUID.
+     */
+    private final Map<UUID, Set<String>> profileExecutions;
+
+    /**
+     * The stored executions read before login by player UUID, held until the player joins.
+     */
+    private final Map<UUID, List<StoredExecution>> pendingLogins;
+
+    /**
+     * The UUIDs of the online profiles whose stored executions were already scheduled.
+     */
+    private final Set<UUID> armedProfiles;
+
+    /**
+     * Creates a new scheduler, registers it as listener and starts advancing the wheel every tick.
+     *
+     * @param log           the logger for this class
+     * @param plugin        the plugin to register the listener and the task for
+     * @param saver         the saver to store the executions with
+     * @param instantSource the instant source to get the current time
+     */
+    public FolderEventScheduler(final BetonQuestLogger log, final Plugin plugin, final Saver saver, final InstantSource instantSource) {
+        this.log = log;
+        this.plugin = plugin;
+        this.saver = saver;
+        this.instantSource = instantSource;
+        this.wheel = new TimingWheel<>();
+        this.timers = new HashMap<>();
+        this.profileExecutions = new HashMap<>();
+        this.pendingLogins = new ConcurrentHashMap<>();
+        this.armedProfiles = new HashSet<>();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+    }
+
+    /**
+     * Schedules the events for the profile and stores the execution.
+     *
+     * @param profile the profile to run the events for or null to run them static
+     * @param events  the events to run
+     * @param delay   the delay in ticks until the first events are run
+     * @param period  the period in ticks between the single events or 0 to run all events at once
+     */
+    public void schedule(@Nullable final Profile profile, final List<EventID> events, final long delay, final long period) {
+        if (events.isEmpty()) {
+            return;
+        }
+        final Execution execution = new Execution(UUID.randomUUID().toString(), profile, List.copyOf(events), period);
+        synchronized (this) {
+            add(execution, delay);
+        }
+        store(execution, delay);
+    }
+
+    /**
+     * Loads the stored executions of the profiles on another thread and schedules them on the main thread
+     * for the profiles that are still online. Profiles whose stored executions were already scheduled are skipped,
+     * as the read data may still contain executions that ran in the meantime.
+     *
+     * @param profiles the profiles to load the executions of
+     */
+    public void loadAsync(final Collection<? extends Profile> profiles) {
+        final List<Profile> toLoad = List.copyOf(profiles);
+        if (toLoad.isEmpty()) {
+            return;
+        }
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            final Map<Profile, List<StoredExecution>> loaded = new LinkedHashMap<>();
+            try (Connector con = new Connector()) {
+                for (final Profile profile : toLoad) {
+                    loaded.put(profile, read(con, profile));
+                }
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> loaded.forEach((profile, stored) -> {
+                if (profile.getOnlineProfile().isPresent()) {
+                    arm(profile, stored);
+                }
+            }));
+        });
+    }
+
+    private List<StoredExecution> read(final Connector con, final Profile profile) {
+        final List<StoredExecution> stored = new ArrayList<>();
+        try (ResultSet result = con.querySQL(QueryType.SELECT_FOLDER_EVENTS, profile.getProfileUUID().toString())) {
+            while (result != null && result.next()) {
+                stored.add(new StoredExecution(result.getString("id"), result.getString("events"),
+                        result.getLong("period_ticks"), result.getLong("due_time")));
+            }
+        } catch (final SQLException e) {
+            log.error("There was an exception with SQL", e);
+            return List.of();
+        }
+        return stored;
+    }
+
+    private void arm(final Profile profile, final List<StoredExecution> stored) {
+        synchronized (this) {
+            if (!armedProfiles.add(profile.getProfileUUID())) {
+                return;
+            }
+        }
+        final long now = instantSource.millis();
+        for (final StoredExecution execution : stored) {
+            final List<EventID> events = parseEvents(execution.events());
+            if (events.isEmpty()) {
+                saver.add(new Record(UpdateType.REMOVE_FOLDER_EVENT, execution.id()));
+                continue;
+            }
+            final long delay = (execution.dueTime() - now + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK;
+            synchronized (this) {
+                if (!timers.containsKey(execution.id())) {
+                    add(new Execution(execution.id(), profile, events, execution.period()), delay);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels the pending executions of the profile, the stored executions are kept.
+     *
+     * @param profile the profile to cancel the executions of
+     */
+    public void cancel(final Profile profile) {
+        synchronized (this) {
+            final Set<String> executionIDs = profileExecutions.remove(profile.getProfileUUID());
+            if (executionIDs != null) {
+                for (final String executionID : executionIDs) {
+                    final TimingWheel.Timer<Execution> timer = timers.remove(executionID);
+                    if (timer != null) {
+                        wheel.cancel(timer);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels the pending executions of the profile and deletes the stored ones.
+     *
+     * @param profile the profile to delete the executions of
+     */
+    public void purge(final Profile profile) {
+        cancel(profile);
+        saver.add(new Record(UpdateType.DELETE_FOLDER_EVENTS, profile.getProfileUUID().toString()));
+    }
+
+    /**
+     * Gets the amount of pending executions.
+     *
+     * @return the amount of pending executions
+     */
+    public int size() {
+        synchronized (this) {
+            return wheel.size();
+        }
+    }
+
+    /**
+     * Advances the wheel by one tick and runs the due executions.
+     */
+    /* default */ void tick() {
+        final List<Execution> expired = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(execution -> {
+                forget(execution);
+                expired.add(execution);
+            });
+        }
+        for (final Execution execution : expired) {
+            run(execution);
+        }
+    }
+
+    private void run(final Execution execution) {
+        if (execution.period() == 0) {
+            unstore(execution);
+            for (final EventID event : execution.events()) {
+                BetonQuest.event(execution.profile(), event);
+            }
+            return;
+        }
+        final List<EventID> remaining = execution.events().subList(1, execution.events().size());
+        unstore(execution);
+        if (!remaining.isEmpty()) {
+            final Execution next = new Execution(execution.id(), execution.profile(), List.copyOf(remaining), execution.period());
+            synchronized (this) {
+                add(next, next.period());
+            }
+            store(next, next.period());
+        }
+        BetonQuest.event(execution.profile(), execution.events().get(0));
+    }
+
+    private void add(final Execution execution, final long delay) {
+        timers.put(execution.id(), wheel.schedule(delay, execution));
+        if (execution.profile() != null) {
+            profileExecutions.computeIfAbsent(execution.profile().getProfileUUID(), uuid -> new HashSet<>()).add(execution.id());
+        }
+    }
+
+    private void forget(final Execution execution) {
+        timers.remove(execution.id());
+        if (execution.profile() == null) {
+            return;
+        }
+        final Set<String> executionIDs = profileExecutions.get(execution.profile().getProfileUUID());
+        if (executionIDs != null) {
+            executionIDs.remove(execution.id());
+            if (executionIDs.isEmpty()) {
+                profileExecutions.remove(execution.profile().getProfileUUID());
+            }
+        }
+    }
+
+    private void store(final Execution execution, final long delay) {
+        if (execution.profile() == null) {
+            return;
+        }
+        final String events = execution.events().stream().map(ID::getFullID).collect(Collectors.joining(","));
+        final long dueTime = instantSource.millis() + Math.max(1, delay) * MILLIS_PER_TICK;
+        saver.add(new Record(UpdateType.ADD_FOLDER_EVENT, execution.id(), execution.profile().getProfileUUID().toString(),
+                events, String.valueOf(execution.period()), String.valueOf(dueTime)));
+    }
+
+    private void unstore(final Execution execution) {
+        if (execution.profile() != null) {
+            saver.add(new Record(UpdateType.REMOVE_FOLDER_EVENT, execution.id()));
+        }
+    }
+
+    private List<EventID> parseEvents(final String events) {
+        final List<EventID> eventIDs = new ArrayList<>();
+        for (final String event : events.split(",")) {
+            try {
+                eventIDs.add(new EventID(null, event));
+            } catch (final ObjectNotFoundException e) {
+                log.warn("Skipping the stored delayed event '" + event + "' because it does not exist anymore: " + e.getMessage(), e);
+            }
+        }
+        return eventIDs;
+    }
+
+    /**
+     * Reads the stored executions of the player logging in and holds them until the player joins.
+     *
+     * @param event the pre login event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(final AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            try (Connector con = new Connector()) {
+                pendingLogins.put(event.getUniqueId(), read(con, PlayerConverter.getID(Bukkit.getOfflinePlayer(event.getUniqueId()))));
+            }
+        }
+    }
+
+    /**
+     * Drops the held executions of the player whose login was denied.
+     *
+     * @param event the login event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(final PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            pendingLogins.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Schedules the held executions of the joining player,
+     * or loads them if they were not read before login.
+     *
+     * @param event the join event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(final PlayerJoinEvent event) {
+        final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
+        final List<StoredExecution> stored = pendingLogins.remove(event.getPlayer().getUniqueId());
+        if (stored == null) {
+            loadAsync(List.of(onlineProfile));
+        } else {
+            arm(onlineProfile, stored);
+        }
+    }
+
+    /**
+     * Cancels the pending executions of the quitting player, they are scheduled again on the next join.
+     *
+     * @param event the quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        pendingLogins.remove(event.getPlayer().getUniqueId());
+        final Profile profile = PlayerConverter.getID(event.getPlayer());
+        cancel(profile);
+        synchronized (this) {
+            armedProfiles.remove(profile.getProfileUUID());
+        }
+    }
+
+    /**
+     * A delayed execution of folder events.
+     *
+     * @param id      the ID of the execution in the database
+     * @param profile the profile to run the events for or null to run them static
+     * @param events  the events that are still to run
+     * @param period  the period in ticks between the single events or 0 to run all events at once
+     */
+    private record Execution(String id, @Nullable Profile profile, List<EventID> events, long period) {
+    }
+
+    /**
+     * An execution as it is stored in the database.
+     *
+     * @param id      the ID of the execution
+     * @param events  the comma separated full IDs of the events
+     * @param period  the period in ticks
+     * @param dueTime the time in epoch milliseconds when the next events are due
+     */
+    private record StoredExecution(String id, String events, long period, long dueTime) {
+    }
+}
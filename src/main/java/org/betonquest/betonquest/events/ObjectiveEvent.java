@@ -79,7 +79,7 @@ public class ObjectiveEvent extends QuestEvent {
                 }
             } else if (profile.getOnlineProfile().isEmpty()) {
                 Bukkit.getScheduler().runTaskAsynchronously(betonQuest, () -> {
-                    final PlayerData playerData = new PlayerData(profile);
+                    final PlayerData playerData = betonQuest.getOfflinePlayerData(profile);
                     switch (action.toLowerCase(Locale.ROOT)) {
                         case "start", "add" -> playerData.addNewRawObjective(objective);
                         case "delete", "remove" -> playerData.removeRawObjective(objective);
@@ -0,0 +1,275 @@
+package org.betonquest.betonquest.events;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel that expires values at a tick.
+ * <p>
+ * The wheel has four levels of 64 slots each. A value is put into the lowest level whose range covers its deadline,
+ * and is moved down a level each time the slot it is in comes up, until it expires in the lowest level.
+ * Deadlines beyond the highest level wait in an overflow list that is redistributed once the highest level turned.
+ * Adding and cancelling a timer is O(1), advancing by a tick is O(1) plus the timers that expire or move down.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <T> the type of the values
+ */
+public final class TimingWheel<T> {
+    /**
+     * The amount of bits of the tick used per level.
+     */
+    private static final int SLOT_BITS = 6;
+
+    /**
+     * The amount of slots per level.
+     */
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    /**
+     * The mask to get the slot from the shifted tick.
+     */
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    /**
+     * The amount of levels.
+     */
+    private static final int LEVELS = 4;
+
+    /**
+     * The slots of all levels, the lowest level first.
+     */
+    private final Slot<T>[][] levels;
+
+    /**
+     * The timers whose deadline is beyond the range of the highest level.
+     */
+    private final Slot<T> overflow;
+
+    /**
+     * The current tick of the wheel.
+     */
+    private long currentTick;
+
+    /**
+     * The amount of pending timers.
+     */
+    private int size;
+
+    /**
+     * Creates a new empty wheel at tick 0.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel() {
+        levels = new Slot[LEVELS][SLOTS];
+        for (final Slot<T>[] level : levels) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new Slot<>();
+            }
+        }
+        overflow = new Slot<>();
+    }
+
+    /**
+     * Gets the current tick of the wheel.
+     *
+     * @return the current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the amount of pending timers.
+     *
+     * @return the amount of pending timers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a timer that expires after the given amount of ticks.
+     * A delay smaller than one tick expires with the next tick.
+     *
+     * @param delay the delay in ticks
+     * @param value the value to expire
+     * @return the timer to cancel the value
+     */
+    public Timer<T> schedule(final long delay, final T value) {
+        final Timer<T> timer = new Timer<>(currentTick + Math.max(1, delay), value);
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels the timer if it is still pending.
+     *
+     * @param timer the timer to cancel
+     * @return true if the timer was pending
+     */
+    public boolean cancel(final Timer<T> timer) {
+        if (timer.slot == null) {
+            return false;
+        }
+        timer.slot.unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel by one tick and passes the values of the expired timers to the consumer.
+     *
+     * @param expired the consumer of the expired values
+     */
+    public void advance(final Consumer<T> expired) {
+        currentTick++;
+        if (size == 0) {
+            return;
+        }
+        for (int level = LEVELS - 1; level > 0; level--) {
+            final int shift = level * SLOT_BITS;
+            if ((currentTick & (1L << shift) - 1) == 0) {
+                if (level == LEVELS - 1 && (currentTick & (1L << shift + SLOT_BITS) - 1) == 0) {
+                    redistribute(overflow);
+                }
+                redistribute(levels[level][(int) (currentTick >>> shift) & SLOT_MASK]);
+            }
+        }
+        final Slot<T> slot = levels[0][(int) currentTick & SLOT_MASK];
+        for (Timer<T> timer = slot.head; timer != null; timer = slot.head) {
+            slot.unlink(timer);
+            size--;
+            expired.accept(timer.value);
+        }
+    }
+
+    private void redistribute(final Slot<T> slot) {
+        Timer<T> timer = slot.head;
+        slot.head = null;
+        while (timer != null) {
+            final Timer<T> next = timer.next;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(final Timer<T> timer) {
+        final long deadline = Math.max(timer.deadline, currentTick);
+        final long delta = deadline - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            final int shift = level * SLOT_BITS;
+            if (delta < 1L << shift + SLOT_BITS) {
+                levels[level][(int) (deadline >>> shift) & SLOT_MASK].link(timer);
+                return;
+            }
+        }
+        overflow.link(timer);
+    }
+
+    /**
+     * A pending value of the wheel.
+     *
+     * @param <T> the type of the value
+     */
+    public static final class Timer<T> {
+        /**
+         * The tick at which the timer expires.
+         */
+        private final long deadline;
+
+        /**
+         * The value to expire.
+         */
+        private final T value;
+
+        /**
+         * The slot the timer is in or null if it is not pending.
+         */
+        @Nullable
+        private Slot<T> slot;
+
+        /**
+         * The previous timer in the slot.
+         */
+        @Nullable
+        private Timer<T> prev;
+
+        /**
+         * The next timer in the slot.
+         */
+        @Nullable
+        private Timer<T> next;
+
+        private Timer(final long deadline, final T value) {
+            this.deadline = deadline;
+            this.value = value;
+        }
+
+        /**
+         * Gets the tick at which the timer expires.
+         *
+         * @return the deadline tick
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Gets the value of the timer.
+         *
+         * @return the value
+         */
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * Checks whether the timer neither expired nor was cancelled.
+         *
+         * @return true if the timer is pending
+         */
+        public boolean isPending() {
+            return slot != null;
+        }
+    }
+
+    /**
+     * Doubly linked list of the timers in a slot.
+     *
+     * @param <T> the type of the values
+     */
+    private static final class Slot<T> {
+        /**
+         * The first timer in the slot.
+         */
+        @Nullable
+        private Timer<T> head;
+
+        private void link(final Timer<T> timer) {
+            timer.slot = this;
+            timer.prev = null;
+            timer.next = head;
+            if (head != null) {
+                head.prev = timer;
+            }
+            head = timer;
+        }
+
+        private void unlink(final Timer<T> timer) {
+            if (timer.prev == null) {
+                head = timer.next;
+            } else {
+                timer.prev.next = timer.next;
+            }
+            if (timer.next != null) {
+                timer.next.prev = timer.prev;
+            }
+            timer.slot = null;
+            timer.prev = null;
+            timer.next = null;
+        }
+    }
+}
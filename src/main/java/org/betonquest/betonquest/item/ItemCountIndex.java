@@ -0,0 +1,249 @@
+package org.betonquest.betonquest.item;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.database.PlayerData;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.entity.ProjectileLaunchEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Index of the amount of items matching a {@link QuestItem} that players have in their inventory and backpack.
+ * <p>
+ * The amounts of a player are counted on demand and kept until an event changes the inventory of the player,
+ * the backpack of the player changes or the current tick ends.
+ * The end of the tick also covers inventory changes that are not announced by an event.
+ * Code that changes inventories directly should invalidate the player to keep checks in the same tick correct.
+ * <p>
+ * This class is thread safe.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public class ItemCountIndex implements Listener {
+    /**
+     * The amount of counts that were answered from the index.
+     */
+    private final LongAdder hits;
+
+    /**
+     * The amount of counts that had to be done.
+     */
+    private final LongAdder misses;
+
+    /**
+     * The counted amounts by player UUID and quest item.
+     */
+    private final Map<UUID, Map<QuestItem, Integer>> amounts;
+
+    /**
+     * Creates a new index, registers it as listener and starts clearing it every tick.
+     *
+     * @param plugin the plugin to register the listener and the clearing for
+     */
+    public ItemCountIndex(final Plugin plugin) {
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.amounts = new ConcurrentHashMap<>();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        Bukkit.getScheduler().runTaskTimer(plugin, this::invalidateAll, 1, 1);
+    }
+
+    /**
+     * Gets the amount of items matching the quest item in the inventory and backpack of the online profile.
+     *
+     * @param profile   the online profile to count the items of
+     * @param questItem the quest item to count
+     * @return the amount of matching items
+     */
+    public int getAmount(final Profile profile, final QuestItem questItem) {
+        final Player player = profile.getOnlineProfile().get().getPlayer();
+        final Map<QuestItem, Integer> playerAmounts = amounts.computeIfAbsent(player.getUniqueId(), uuid -> new ConcurrentHashMap<>());
+        final Integer cached = playerAmounts.get(questItem);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final int amount = count(player, BetonQuest.getInstance().getPlayerData(profile), questItem);
+        playerAmounts.put(questItem, amount);
+        return amount;
+    }
+
+    private int count(final Player player, final PlayerData playerData, final QuestItem questItem) {
+        int amount = 0;
+        for (final ItemStack item : player.getInventory().getContents()) {
+            if (item != null && questItem.compare(item)) {
+                amount += item.getAmount();
+            }
+        }
+        for (final ItemStack item : playerData.getBackpackView()) {
+            if (item != null && questItem.compare(item)) {
+                amount += item.getAmount();
+            }
+        }
+        return amount;
+    }
+
+    /**
+     * Removes the counted amounts of the player.
+     *
+     * @param playerUUID the UUID of the player whose inventory or backpack changed
+     */
+    public void invalidate(final UUID playerUUID) {
+        amounts.remove(playerUUID);
+    }
+
+    /**
+     * Removes all counted amounts.
+     */
+    public void invalidateAll() {
+        if (!amounts.isEmpty()) {
+            amounts.clear();
+        }
+    }
+
+    /**
+     * Gets the amount of counts that were answered from the index.
+     *
+     * @return the amount of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of counts that had to be done.
+     *
+     * @return the amount of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private void invalidate(final HumanEntity entity) {
+        invalidate(entity.getUniqueId());
+    }
+
+    /**
+     * Invalidates the clicking player.
+     *
+     * @param event the click event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(final InventoryClickEvent event) {
+        invalidate(event.getWhoClicked());
+    }
+
+    /**
+     * Invalidates the dragging player.
+     *
+     * @param event the drag event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(final InventoryDragEvent event) {
+        invalidate(event.getWhoClicked());
+    }
+
+    /**
+     * Invalidates the player picking up an item.
+     *
+     * @param event the pickup event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(final EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof final Player player) {
+            invalidate(player);
+        }
+    }
+
+    /**
+     * Invalidates the player dropping an item.
+     *
+     * @param event the drop event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(final PlayerDropItemEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    /**
+     * Invalidates the player consuming an item.
+     *
+     * @param event the consume event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onConsume(final PlayerItemConsumeEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    /**
+     * Invalidates the player whose item broke.
+     *
+     * @param event the break event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(final PlayerItemBreakEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    /**
+     * Invalidates the player placing a block.
+     *
+     * @param event the place event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(final BlockPlaceEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    /**
+     * Invalidates the player throwing a projectile.
+     *
+     * @param event the launch event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onProjectileLaunch(final ProjectileLaunchEvent event) {
+        if (event.getEntity().getShooter() instanceof final Player player) {
+            invalidate(player);
+        }
+    }
+
+    /**
+     * Invalidates the dying player.
+     *
+     * @param event the death event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(final PlayerDeathEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    /**
+     * Removes the quitting player.
+     *
+     * @param event the quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        invalidate(event.getPlayer());
+    }
+}
@@ -61,6 +61,11 @@ public class QuestItem {
 
     private final FlagHandler flags = new FlagHandler();
 
+    /**
+     * The cheap properties an item must have to match, checked before the full comparison.
+     */
+    private final Fingerprint fingerprint;
+
     /**
      * Creates new instance of the quest item using the ID
      *
@@ -155,6 +160,8 @@ public class QuestItem {
                 default -> throw new InstructionParseException("Unknown argument: " + argumentName);
             }
         }
+        fingerprint = new Fingerprint(customModelData.getExistence(), customModelData.get(),
+                name.getExistence(), lore.getExistence());
     }
 
     /**
@@ -388,17 +395,17 @@ public class QuestItem {
         if (meta == null) {
             return true;
         }
-        final String displayName = meta.hasDisplayName() ? meta.getDisplayName() : null;
-        if (!name.check(displayName)) {
+        if (!fingerprint.matches(meta)) {
             return false;
         }
-        if (!lore.check(meta.getLore())) {
+        // the fingerprint already decided forbidden names and lore as well as the custom model data
+        if (fingerprint.nameExistence() == Existence.REQUIRED && !name.check(meta.getDisplayName())) {
             return false;
         }
-        if (!unbreakable.check(meta.isUnbreakable())) {
+        if (fingerprint.loreExistence() == Existence.REQUIRED && !lore.check(meta.getLore())) {
             return false;
         }
-        if (!customModelData.check(meta)) {
+        if (!unbreakable.check(meta.isUnbreakable())) {
             return false;
         }
         if (!flags.check(meta)) {
@@ -422,8 +429,7 @@ public class QuestItem {
                 return false;
             }
         }
-        if (meta instanceof BookMeta) {
-            final BookMeta bookMeta = (BookMeta) item.getItemMeta();
+        if (meta instanceof final BookMeta bookMeta) {
             if (!book.checkTitle(bookMeta.getTitle())) {
                 return false;
             }
@@ -434,20 +440,17 @@ public class QuestItem {
                 return false;
             }
         }
-        if (meta instanceof SkullMeta) {
-            final SkullMeta skullMeta = (SkullMeta) item.getItemMeta();
+        if (meta instanceof final SkullMeta skullMeta) {
             if (!head.check(skullMeta)) {
                 return false;
             }
         }
-        if (meta instanceof LeatherArmorMeta) {
-            final LeatherArmorMeta armorMeta = (LeatherArmorMeta) item.getItemMeta();
+        if (meta instanceof final LeatherArmorMeta armorMeta) {
             if (!color.check(armorMeta.getColor())) {
                 return false;
             }
         }
-        if (meta instanceof FireworkMeta) {
-            final FireworkMeta fireworkMeta = (FireworkMeta) item.getItemMeta();
+        if (meta instanceof final FireworkMeta fireworkMeta) {
             if (!firework.checkEffects(fireworkMeta.getEffects())) {
                 return false;
             }
@@ -455,9 +458,8 @@ public class QuestItem {
                 return false;
             }
         }
-        if (meta instanceof FireworkEffectMeta) {
-            final FireworkEffectMeta fireworkMeta = (FireworkEffectMeta) item.getItemMeta();
-            return firework.checkSingleEffect(fireworkMeta.getEffect());
+        if (meta instanceof final FireworkEffectMeta fireworkEffectMeta) {
+            return firework.checkSingleEffect(fireworkEffectMeta.getEffect());
         }
         return true;
     }
@@ -685,6 +687,41 @@ public class QuestItem {
         return flags.get();
     }
 
+    /**
+     * The properties of a quest item that can be checked without copying anything from the item meta.
+     *
+     * @param modelDataExistence the existence of the custom model data
+     * @param modelData          the required custom model data
+     * @param nameExistence      the existence of the display name
+     * @param loreExistence      the existence of the lore
+     */
+    private record Fingerprint(Existence modelDataExistence, int modelData, Existence nameExistence,
+                               Existence loreExistence) {
+        /**
+         * Checks whether the item meta can match the quest item.
+         *
+         * @param meta the item meta to check
+         * @return false if the item does not match, true if the full comparison has to decide
+         */
+        private boolean matches(final ItemMeta meta) {
+            return matchesModelData(meta)
+                    && matchesExistence(nameExistence, meta.hasDisplayName())
+                    && matchesExistence(loreExistence, meta.hasLore());
+        }
+
+        private boolean matchesModelData(final ItemMeta meta) {
+            return switch (modelDataExistence) {
+                case WHATEVER -> true;
+                case FORBIDDEN -> !meta.hasCustomModelData();
+                case REQUIRED -> meta.hasCustomModelData() && meta.getCustomModelData() == modelData;
+            };
+        }
+
+        private boolean matchesExistence(final Existence existence, final boolean present) {
+            return existence == Existence.WHATEVER || (existence == Existence.REQUIRED) == present;
+        }
+    }
+
     public enum Existence {
         REQUIRED, FORBIDDEN, WHATEVER
     }
@@ -214,6 +214,7 @@ public class QuestItemHandler implements Listener {
                     inv.setItem(i, null);
                 }
             }
+            BetonQuest.getInstance().getItemCountIndex().invalidate(event.getPlayer().getUniqueId());
         }
         if (Boolean.parseBoolean(Config.getString("config.journal.give_on_respawn"))) {
             BetonQuest.getInstance().getPlayerData(PlayerConverter.getID(event.getPlayer())).getJournal().addToInv();
@@ -261,6 +262,7 @@ public class QuestItemHandler implements Listener {
             final ItemStack copy = original.clone();
             event.getPlayer().getInventory().removeItem(original);
             event.getPlayer().getInventory().addItem(copy);
+            BetonQuest.getInstance().getItemCountIndex().invalidate(event.getPlayer().getUniqueId());
         }
     }
 
@@ -36,6 +36,10 @@ public class LoreHandler {
         return lore;
     }
 
+    public Existence getExistence() {
+        return existence;
+    }
+
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.CognitiveComplexity"})
     public boolean check(final List<String> lore) {
         switch (existence) {
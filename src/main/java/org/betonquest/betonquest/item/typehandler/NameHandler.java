@@ -28,6 +28,10 @@ public class NameHandler {
         return name;
     }
 
+    public Existence getExistence() {
+        return existence;
+    }
+
     public boolean check(final String name) {
         switch (existence) {
             case WHATEVER:
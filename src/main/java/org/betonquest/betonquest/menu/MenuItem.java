@@ -236,9 +236,9 @@ public class MenuItem extends SimpleYMLSection {
     public boolean display(final Profile profile) {
         for (final ConditionID condition : this.conditions) {
             if (BetonQuest.condition(profile, condition)) {
-                log.debug(pack, "Item " + name + ": condition " + condition + " returned true");
+                log.debug(pack, () -> "Item " + name + ": condition " + condition + " returned true");
             } else {
-                log.debug(pack, "Item " + name + " wont be displayed: condition" + condition + " returned false.");
+                log.debug(pack, () -> "Item " + name + " wont be displayed: condition" + condition + " returned false.");
                 return false;
             }
         }
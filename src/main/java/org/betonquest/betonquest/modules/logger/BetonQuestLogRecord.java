@@ -7,6 +7,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.Serial;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -28,6 +29,12 @@ public class BetonQuestLogRecord extends LogRecord {
      */
     private final String pack;
 
+    /**
+     * The supplier of the message until it is needed for the first time.
+     */
+    @Nullable
+    private transient Supplier<String> messageSupplier;
+
     /**
      * Creates a custom {@link LogRecord} that comes from a {@link Plugin} and is not specific to any {@link QuestPackage}.
      *
@@ -66,6 +73,20 @@ public class BetonQuestLogRecord extends LogRecord {
         this.pack = packageName;
     }
 
+    /**
+     * Creates a custom {@link LogRecord} that comes from a {@link Plugin} and may be specific to a {@link QuestPackage}.
+     * The message is only created when it is needed for the first time.
+     *
+     * @param level   level of the LogRecord
+     * @param message supplier of the raw non-localized logging message
+     * @param plugin  plugin that logged this LogRecord
+     * @param pack    quest package this LogRecord is about; or null if it is not about any specific package
+     */
+    public BetonQuestLogRecord(final Level level, final Supplier<String> message, @NotNull final Plugin plugin, @Nullable final QuestPackage pack) {
+        this(level, (String) null, plugin, pack);
+        this.messageSupplier = message;
+    }
+
     /**
      * Try to cast a {@link LogRecord} into a {@link BetonQuestLogRecord} and return an {@link Optional} that contains
      * the cast record if successful.
@@ -81,6 +102,52 @@ public class BetonQuestLogRecord extends LogRecord {
         }
     }
 
+    @Override
+    public String getMessage() {
+        synchronized (this) {
+            if (messageSupplier != null) {
+                super.setMessage(messageSupplier.get());
+                messageSupplier = null;
+            }
+        }
+        return super.getMessage();
+    }
+
+    @Override
+    public void setMessage(final String message) {
+        synchronized (this) {
+            messageSupplier = null;
+        }
+        super.setMessage(message);
+    }
+
+    /**
+     * Checks whether the message was already created or given as string.
+     *
+     * @return false if the message is still created lazily; true otherwise
+     */
+    public boolean isMessageCreated() {
+        synchronized (this) {
+            return messageSupplier == null;
+        }
+    }
+
+    /**
+     * Adds a prefix to the message without creating a message that is not needed yet.
+     *
+     * @param prefix the prefix to add
+     */
+    public void addMessagePrefix(final String prefix) {
+        synchronized (this) {
+            if (messageSupplier != null) {
+                final Supplier<String> message = messageSupplier;
+                messageSupplier = () -> prefix + message.get();
+                return;
+            }
+        }
+        super.setMessage(prefix + super.getMessage());
+    }
+
     /**
      * Gets the fully qualified name of the quest package if present that this record is about.
      *
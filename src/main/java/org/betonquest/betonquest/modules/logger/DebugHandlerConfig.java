@@ -16,6 +16,16 @@ public class DebugHandlerConfig {
      */
     private static final int EXPIRE_AFTER_DEFAULT = 10;
 
+    /**
+     * Default value for the maximum amount of records in the history.
+     */
+    private static final int HISTORY_MAX_RECORDS_DEFAULT = 10_000;
+
+    /**
+     * Default value for the maximum size of the history in megabytes.
+     */
+    private static final int HISTORY_MAX_MEGABYTES_DEFAULT = 16;
+
     /**
      * The file path to the latest.log.
      */
@@ -36,6 +46,16 @@ public class DebugHandlerConfig {
      */
     private static final String CONFIG_HISTORY_PATH = CONFIG_SECTION + ".history_in_minutes";
 
+    /**
+     * The full path to the config setting, that defines the maximum amount of records in the history.
+     */
+    private static final String CONFIG_HISTORY_MAX_RECORDS_PATH = CONFIG_SECTION + ".history_max_records";
+
+    /**
+     * The full path to the config setting, that defines the maximum size of the history in megabytes.
+     */
+    private static final String CONFIG_HISTORY_MAX_MEGABYTES_PATH = CONFIG_SECTION + ".history_max_megabytes";
+
     /**
      * The {@link ConfigurationFile} where to configure debugging.
      */
@@ -90,6 +110,24 @@ public class DebugHandlerConfig {
         return config.getInt(CONFIG_HISTORY_PATH, EXPIRE_AFTER_DEFAULT);
     }
 
+    /**
+     * Gets how many {@link LogRecord}s the history keeps at most.
+     *
+     * @return maximum amount of records
+     */
+    public int getHistoryMaxRecords() {
+        return config.getInt(CONFIG_HISTORY_MAX_RECORDS_PATH, HISTORY_MAX_RECORDS_DEFAULT);
+    }
+
+    /**
+     * Gets the approximate size the {@link LogRecord}s in the history may use at most.
+     *
+     * @return maximum size in bytes
+     */
+    public long getHistoryMaxBytes() {
+        return config.getLong(CONFIG_HISTORY_MAX_MEGABYTES_PATH, HISTORY_MAX_MEGABYTES_DEFAULT) * 1024 * 1024;
+    }
+
     /**
      * Get the {@link File} for writing log messages into.
      *
@@ -0,0 +1,61 @@
+package org.betonquest.betonquest.modules.logger;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+/**
+ * Keeps track of whether debug messages are consumed by any handler,
+ * so the {@link DefaultBetonQuestLogger} can skip creating them otherwise.
+ * <p>
+ * Debug messages are consumed if the debug history is written or recorded,
+ * or if a player watches the {@link Level#FINE} messages of the package in the chat.
+ * Until the handlers report their state, debug messages are always consumed.
+ */
+public final class DebugLogState {
+    /**
+     * Whether the history handler writes or records debug messages.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private static volatile boolean historyConsuming = true;
+
+    /**
+     * The filter of package names whose debug messages are watched in the chat.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private static volatile Predicate<String> watchedPackages = pack -> false;
+
+    private DebugLogState() {
+    }
+
+    /**
+     * Checks whether debug messages of the package are consumed by any handler.
+     *
+     * @param pack the package of the messages or null if they are not related to a package
+     * @return true if debug messages should be logged
+     */
+    public static boolean isDebugEnabled(@Nullable final QuestPackage pack) {
+        return historyConsuming || watchedPackages.test(pack == null ? "" : pack.getQuestPath());
+    }
+
+    /**
+     * Sets whether the history handler writes or records debug messages.
+     *
+     * @param consuming true if the history handler consumes debug messages
+     */
+    public static void setHistoryConsuming(final boolean consuming) {
+        historyConsuming = consuming;
+    }
+
+    /**
+     * Sets the filter of package names whose debug messages are watched in the chat.
+     * Records without a package are tested with an empty name.
+     *
+     * @param packageFilter the filter of watched package names
+     */
+    public static void setWatchedPackages(final Predicate<String> packageFilter) {
+        watchedPackages = packageFilter;
+    }
+}
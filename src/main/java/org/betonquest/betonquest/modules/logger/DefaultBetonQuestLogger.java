@@ -5,6 +5,7 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -60,6 +61,24 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
         logger.log(record);
     }
 
+    @Override
+    public boolean isDebugEnabled(final QuestPackage pack) {
+        return DebugLogState.isDebugEnabled(pack);
+    }
+
+    @Override
+    public void debug(final Supplier<String> msg) {
+        debug(null, msg);
+    }
+
+    @Override
+    public void debug(final QuestPackage pack, final Supplier<String> msg) {
+        if (isDebugEnabled(pack)) {
+            final BetonQuestLogRecord record = new BetonQuestLogRecord(Level.FINE, msg, plugin, pack);
+            logger.log(record);
+        }
+    }
+
     @Override
     public void info(final String msg) {
         info(null, msg);
@@ -11,12 +11,11 @@ import org.betonquest.betonquest.modules.logger.handler.LazyHandler;
 import org.betonquest.betonquest.modules.logger.handler.ResettableHandler;
 import org.betonquest.betonquest.modules.logger.handler.chat.ChatHandler;
 import org.betonquest.betonquest.modules.logger.handler.chat.RecordReceiverSelector;
-import org.betonquest.betonquest.modules.logger.handler.history.BukkitSchedulerCleaningLogQueue;
 import org.betonquest.betonquest.modules.logger.handler.history.DiscardingLogQueue;
 import org.betonquest.betonquest.modules.logger.handler.history.HistoryHandler;
 import org.betonquest.betonquest.modules.logger.handler.history.LogRecordQueue;
+import org.betonquest.betonquest.modules.logger.handler.history.RingBufferLogRecordQueue;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitScheduler;
 
 import java.io.File;
 import java.io.IOException;
@@ -63,16 +62,14 @@ public final class HandlerFactory {
     /**
      * Create a {@link HistoryHandler}.
      *
-     * @param plugin        {@link Plugin} instance
-     * @param scheduler     {@link BukkitScheduler} instance
      * @param config        {@link ConfigurationFile} instance
      * @param logFileFolder {@link File} to the log folder
      * @param instantSource {@link InstantSource} instance
      * @return a new {@link HistoryHandler}
      */
-    public static HistoryHandler createHistoryHandler(final Plugin plugin, final BukkitScheduler scheduler, final ConfigurationFile config, final File logFileFolder, final InstantSource instantSource) {
+    public static HistoryHandler createHistoryHandler(final ConfigurationFile config, final File logFileFolder, final InstantSource instantSource) {
         final DebugHandlerConfig debugHandlerConfig = new DebugHandlerConfig(config, logFileFolder);
-        final LogRecordQueue logQueue = createLogRecordQueue(plugin, scheduler, instantSource, debugHandlerConfig.getExpireAfterMinutes());
+        final LogRecordQueue logQueue = createLogRecordQueue(instantSource, debugHandlerConfig);
         final ResettableHandler targetHandler = createDebugLogFileHandler(debugHandlerConfig.getLogFile(), instantSource);
         final HistoryHandler historyHandler = new HistoryHandler(debugHandlerConfig.isDebugging(), debugHandlerConfig::setDebugging, logQueue, targetHandler);
         historyHandler.setFilter(new LogRecordTypeFilter(BetonQuestLogRecord.class));
@@ -83,13 +80,13 @@ public final class HandlerFactory {
         return new ResettableHandler(() -> new LazyHandler(() -> setupFileHandler(logFile, instantSource)));
     }
 
-    private static LogRecordQueue createLogRecordQueue(final Plugin plugin, final BukkitScheduler scheduler, final InstantSource instantSource, final int keepMinutes) {
+    private static LogRecordQueue createLogRecordQueue(final InstantSource instantSource, final DebugHandlerConfig debugHandlerConfig) {
+        final int keepMinutes = debugHandlerConfig.getExpireAfterMinutes();
         if (keepMinutes == 0) {
             return new DiscardingLogQueue();
         } else {
-            final BukkitSchedulerCleaningLogQueue bukkitQueue = new BukkitSchedulerCleaningLogQueue(instantSource, Duration.of(keepMinutes, ChronoUnit.MINUTES));
-            bukkitQueue.runCleanupTimerAsynchronously(scheduler, plugin, 20, 20);
-            return bukkitQueue;
+            return new RingBufferLogRecordQueue(instantSource, Duration.of(keepMinutes, ChronoUnit.MINUTES),
+                    debugHandlerConfig.getHistoryMaxRecords(), debugHandlerConfig.getHistoryMaxBytes());
         }
     }
 
@@ -7,6 +7,7 @@ import org.betonquest.betonquest.modules.logger.handler.chat.ReceiverSelectorReg
 import org.betonquest.betonquest.modules.logger.handler.chat.RecordReceiverSelector;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Level;
@@ -19,7 +20,7 @@ public class PlayerLogWatcher {
     /**
      * Storage for active selectors for ease of removing / changing them.
      */
-    private final Table<UUID, String, RecordReceiverSelector> activeSelectors;
+    private final Table<UUID, String, PlayerPackageReceiverSelector> activeSelectors;
 
     /**
      * Selector registry that is being controlled by this facade.
@@ -86,6 +87,7 @@ public class PlayerLogWatcher {
         selectorRegistry.addSelector(newSelector);
         final RecordReceiverSelector oldSelector = activeSelectors.put(subject, packagePattern, newSelector);
         unregisterSelector(oldSelector);
+        updateWatchedPackages();
     }
 
     /**
@@ -98,6 +100,16 @@ public class PlayerLogWatcher {
     public void removeFilter(final UUID subject, final String packagePattern) {
         final RecordReceiverSelector oldSelector = activeSelectors.remove(subject, packagePattern);
         unregisterSelector(oldSelector);
+        updateWatchedPackages();
+    }
+
+    private void updateWatchedPackages() {
+        final List<PlayerPackageReceiverSelector> selectors = List.copyOf(activeSelectors.values());
+        if (selectors.isEmpty()) {
+            DebugLogState.setWatchedPackages(pack -> false);
+        } else {
+            DebugLogState.setWatchedPackages(pack -> selectors.stream().anyMatch(selector -> selector.matches(Level.FINE, pack)));
+        }
     }
 
     private void unregisterSelector(final RecordReceiverSelector oldSelector) {
@@ -37,7 +37,11 @@ public class TopicLogger extends Logger {
      */
     @Override
     public void log(@NotNull final LogRecord logRecord) {
-        logRecord.setMessage(topic + logRecord.getMessage());
+        if (logRecord instanceof final BetonQuestLogRecord record) {
+            record.addMessagePrefix(topic);
+        } else {
+            logRecord.setMessage(topic + logRecord.getMessage());
+        }
         logRecord.setLoggerName(getParent().getName());
         super.log(logRecord);
     }
@@ -93,8 +93,18 @@ public class PlayerPackageReceiverSelector implements RecordReceiverSelector {
     }
 
     private boolean match(final LogRecord record) {
-        return isLevelIncluded(record.getLevel())
-                && isPackageIncluded(extractPackage(record));
+        return matches(record.getLevel(), extractPackage(record));
+    }
+
+    /**
+     * Checks whether records with the given level and package are selected.
+     *
+     * @param level the level of the records
+     * @param pack  the fully qualified package name of the records or an empty string for records without a package
+     * @return true if the records are selected; false otherwise
+     */
+    public boolean matches(final Level level, final String pack) {
+        return isLevelIncluded(level) && isPackageIncluded(pack);
     }
 
     private String extractPackage(final LogRecord record) {
@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.modules.logger.handler.history;
 
+import org.betonquest.betonquest.modules.logger.DebugLogState;
 import org.betonquest.betonquest.modules.logger.handler.ResettableHandler;
 import org.betonquest.betonquest.utils.WriteOperation;
 
@@ -70,6 +71,7 @@ public class HistoryHandler extends Handler implements LogPublishingController {
         this.recordQueue = recordQueue;
         this.target = target;
         this.publishLock = new ReentrantLock(true);
+        DebugLogState.setHistoryConsuming(logging || recordQueue.isRecording());
     }
 
     /**
@@ -117,6 +119,7 @@ public class HistoryHandler extends Handler implements LogPublishingController {
     private void setLogging(final boolean logging) throws IOException {
         loggingStateUpdater.write(logging);
         this.logging = logging;
+        DebugLogState.setHistoryConsuming(logging || recordQueue.isRecording());
     }
 
     @Override
@@ -151,6 +154,10 @@ public class HistoryHandler extends Handler implements LogPublishingController {
     private void push() {
         if (recordQueue.canPublish()) {
             target.publish(new LogRecord(Level.INFO, START_OF_HISTORY));
+            final long dropped = recordQueue.getAndResetDroppedCount();
+            if (dropped > 0) {
+                target.publish(new LogRecord(Level.INFO, dropped + " older records were dropped because the history was full."));
+            }
             recordQueue.publishAll(target);
             target.publish(new LogRecord(Level.INFO, END_OF_HISTORY));
         }
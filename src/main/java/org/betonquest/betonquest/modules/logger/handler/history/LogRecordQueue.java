@@ -23,6 +23,24 @@ public interface LogRecordQueue {
      */
     boolean canPublish();
 
+    /**
+     * Check whether the queue keeps pushed records at all.
+     *
+     * @return true if pushed records are kept; false if they are discarded
+     */
+    default boolean isRecording() {
+        return true;
+    }
+
+    /**
+     * Get the amount of records that were dropped since the last call because the queue was full.
+     *
+     * @return the amount of dropped records
+     */
+    default long getAndResetDroppedCount() {
+        return 0;
+    }
+
     /**
      * Publish the next record in the queue.
      *
@@ -0,0 +1,180 @@
+package org.betonquest.betonquest.modules.logger.handler.history;
+
+import org.betonquest.betonquest.modules.logger.BetonQuestLogRecord;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * LogRecord Queue that keeps the newest records of a time frame in a ring buffer of fixed capacity.
+ * <p>
+ * Besides the record count, the approximate memory size of the kept records is limited.
+ * When one of the limits is reached, the oldest records are dropped and counted.
+ * Expired records are removed when new records are pushed or published, so no cleanup task is needed.
+ * The messages of lazily created records are not created by this queue,
+ * they are only created when the records are published.
+ */
+public class RingBufferLogRecordQueue implements LogRecordQueue {
+    /**
+     * The approximate size in bytes of a record without its message and throwable.
+     */
+    private static final int RECORD_SIZE = 256;
+
+    /**
+     * The assumed size in bytes of a message that was not created yet.
+     */
+    private static final int UNCREATED_MESSAGE_SIZE = 128;
+
+    /**
+     * The approximate size in bytes of a stack trace element of a throwable.
+     */
+    private static final int STACK_FRAME_SIZE = 128;
+
+    /**
+     * The maximum depth of causes that are taken into account for the size of a throwable.
+     */
+    private static final int MAX_CAUSE_DEPTH = 8;
+
+    /**
+     * Instant source to get the current time when comparing {@link LogRecord}s.
+     */
+    private final InstantSource instantSource;
+
+    /**
+     * Time that new log records are valid for.
+     */
+    private final Duration validFor;
+
+    /**
+     * The maximum approximate size in bytes of all kept records.
+     */
+    private final long maxBytes;
+
+    /**
+     * The kept records.
+     */
+    private final LogRecord[] records;
+
+    /**
+     * The approximate sizes of the kept records, at the same index as the record.
+     */
+    private final long[] sizes;
+
+    /**
+     * The index of the oldest kept record.
+     */
+    private int head;
+
+    /**
+     * The amount of kept records.
+     */
+    private int count;
+
+    /**
+     * The approximate size in bytes of all kept records.
+     */
+    private long bytes;
+
+    /**
+     * The amount of records that were dropped because a limit was reached.
+     */
+    private long dropped;
+
+    /**
+     * Create a ring buffer log record queue.
+     *
+     * @param instantSource instant source
+     * @param validFor      duration that log records should be valid for
+     * @param maxRecords    maximum amount of kept records
+     * @param maxBytes      maximum approximate size in bytes of all kept records
+     */
+    public RingBufferLogRecordQueue(final InstantSource instantSource, final Duration validFor, final int maxRecords, final long maxBytes) {
+        this.instantSource = instantSource;
+        this.validFor = validFor;
+        this.maxBytes = maxBytes;
+        this.records = new LogRecord[Math.max(1, maxRecords)];
+        this.sizes = new long[records.length];
+    }
+
+    private static long estimateSize(final LogRecord record) {
+        long size = RECORD_SIZE;
+        if (record instanceof final BetonQuestLogRecord betonQuestRecord && !betonQuestRecord.isMessageCreated()) {
+            size += UNCREATED_MESSAGE_SIZE;
+        } else {
+            final String message = record.getMessage();
+            size += message == null ? 0 : 2L * message.length();
+        }
+        Throwable thrown = record.getThrown();
+        for (int depth = 0; thrown != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            size += (long) STACK_FRAME_SIZE * thrown.getStackTrace().length;
+            thrown = thrown.getCause();
+        }
+        return size;
+    }
+
+    @Override
+    public void push(final LogRecord record) {
+        final long size = estimateSize(record);
+        synchronized (this) {
+            removeExpired();
+            while (count > 0 && (count == records.length || bytes + size > maxBytes)) {
+                removeOldest();
+                dropped++;
+            }
+            final int index = (head + count) % records.length;
+            records[index] = record;
+            sizes[index] = size;
+            bytes += size;
+            count++;
+        }
+    }
+
+    @Override
+    public boolean canPublish() {
+        synchronized (this) {
+            removeExpired();
+            return count > 0;
+        }
+    }
+
+    @Override
+    public void publishNext(final Handler publishingTarget) {
+        final LogRecord record;
+        synchronized (this) {
+            removeExpired();
+            if (count == 0) {
+                return;
+            }
+            record = removeOldest();
+        }
+        publishingTarget.publish(record);
+    }
+
+    @Override
+    public long getAndResetDroppedCount() {
+        synchronized (this) {
+            final long droppedCount = dropped;
+            dropped = 0;
+            return droppedCount;
+        }
+    }
+
+    private void removeExpired() {
+        final Instant expiry = instantSource.instant().minus(validFor);
+        while (count > 0 && records[head].getInstant().isBefore(expiry)) {
+            removeOldest();
+        }
+    }
+
+    private LogRecord removeOldest() {
+        final LogRecord record = records[head];
+        records[head] = null;
+        bytes -= sizes[head];
+        head = (head + 1) % records.length;
+        count--;
+        return record;
+    }
+}
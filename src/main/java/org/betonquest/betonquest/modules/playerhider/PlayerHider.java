@@ -11,13 +11,17 @@ import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.utils.PlayerConverter;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * The {@link PlayerHider} can hide others, if both the source and the target {@link Profile} meet all conditions.
@@ -29,6 +33,11 @@ public class PlayerHider {
      */
     private final Map<ConditionID[], ConditionID[]> hiders;
 
+    /**
+     * The players hidden by the last update by the UUID of the player they are hidden from.
+     */
+    private final Map<UUID, HiddenPlayers> hiddenPlayers;
+
     /**
      * The running hider
      */
@@ -41,6 +50,7 @@ public class PlayerHider {
      */
     public PlayerHider() throws InstructionParseException {
         hiders = new HashMap<>();
+        hiddenPlayers = new HashMap<>();
 
         for (final QuestPackage pack : Config.getPackages().values()) {
             final ConfigurationSection hiderSection = pack.getConfig().getConfigurationSection("player_hider");
@@ -59,10 +69,19 @@ public class PlayerHider {
     }
 
     /**
-     * Stops the running {@link PlayerHider}.
+     * Stops the running {@link PlayerHider} and shows all players it has hidden.
      */
     public void stop() {
         bukkitTask.cancel();
+        for (final HiddenPlayers hidden : hiddenPlayers.values()) {
+            for (final UUID target : hidden.targets()) {
+                final Player targetPlayer = Bukkit.getPlayer(target);
+                if (targetPlayer != null && hidden.source().isOnline()) {
+                    hidden.source().showPlayer(BetonQuest.getInstance(), targetPlayer);
+                }
+            }
+        }
+        hiddenPlayers.clear();
     }
 
     private ConditionID[] getConditions(final QuestPackage pack, final String key, final String rawConditions) throws InstructionParseException {
@@ -83,56 +102,91 @@ public class PlayerHider {
     }
 
     /**
-     * Trigger an update for the visibility
+     * Trigger an update for the visibility.
+     * <p>
+     * The conditions are checked once per rule and player, and only players whose visibility
+     * changed since the last update are hidden or shown.
      */
     public void updateVisibility() {
-        final Collection<? extends OnlineProfile> onlineProfiles = PlayerConverter.getOnlineProfiles();
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = getProfilesToHide(onlineProfiles);
-        for (final OnlineProfile source : onlineProfiles) {
-            updateVisibilityForProfiles(onlineProfiles, source, profilesToHide.get(source));
+        final List<OnlineProfile> onlineProfiles = new ArrayList<>(PlayerConverter.getOnlineProfiles());
+        final Map<UUID, Player> onlinePlayers = new HashMap<>();
+        for (final OnlineProfile onlineProfile : onlineProfiles) {
+            onlinePlayers.put(onlineProfile.getPlayer().getUniqueId(), onlineProfile.getPlayer());
+        }
+        final BitSet[] hiddenTargets = getHiddenTargets(onlineProfiles);
+        final Map<UUID, HiddenPlayers> updated = new HashMap<>();
+        for (int source = 0; source < onlineProfiles.size(); source++) {
+            final Player sourcePlayer = onlineProfiles.get(source).getPlayer();
+            final HiddenPlayers previous = hiddenPlayers.get(sourcePlayer.getUniqueId());
+            final Set<UUID> previousTargets = previous == null || previous.source() != sourcePlayer ? Set.of() : previous.targets();
+            final Set<UUID> targets = applyChanges(sourcePlayer, onlineProfiles, hiddenTargets[source], previousTargets, onlinePlayers);
+            if (!targets.isEmpty()) {
+                updated.put(sourcePlayer.getUniqueId(), new HiddenPlayers(sourcePlayer, targets));
+            }
         }
+        hiddenPlayers.clear();
+        hiddenPlayers.putAll(updated);
     }
 
-    private void updateVisibilityForProfiles(final Collection<? extends OnlineProfile> onlineProfiles, final OnlineProfile source, final List<OnlineProfile> profilesToHide) {
-        if (profilesToHide == null) {
-            for (final OnlineProfile target : onlineProfiles) {
-                source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
+    private Set<UUID> applyChanges(final Player source, final List<OnlineProfile> onlineProfiles, final BitSet hiddenTargets,
+                                   final Set<UUID> previousTargets, final Map<UUID, Player> onlinePlayers) {
+        final Set<UUID> targets = new HashSet<>();
+        for (int target = hiddenTargets.nextSetBit(0); target >= 0; target = hiddenTargets.nextSetBit(target + 1)) {
+            final Player targetPlayer = onlineProfiles.get(target).getPlayer();
+            targets.add(targetPlayer.getUniqueId());
+            if (!previousTargets.contains(targetPlayer.getUniqueId())) {
+                source.hidePlayer(BetonQuest.getInstance(), targetPlayer);
             }
-        } else {
-            for (final OnlineProfile target : onlineProfiles) {
-                if (profilesToHide.contains(target)) {
-                    source.getPlayer().hidePlayer(BetonQuest.getInstance(), target.getPlayer());
-                } else {
-                    source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
-                }
+        }
+        for (final UUID previousTarget : previousTargets) {
+            if (targets.contains(previousTarget)) {
+                continue;
+            }
+            final Player targetPlayer = onlinePlayers.get(previousTarget);
+            if (targetPlayer == null) {
+                // the target stays hidden while offline, it is shown when it is back online
+                targets.add(previousTarget);
+            } else {
+                source.showPlayer(BetonQuest.getInstance(), targetPlayer);
             }
         }
+        return targets;
     }
 
-    private Map<OnlineProfile, List<OnlineProfile>> getProfilesToHide(final Collection<? extends OnlineProfile> onlineProfiles) {
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = new HashMap<>();
+    private BitSet[] getHiddenTargets(final List<OnlineProfile> onlineProfiles) {
+        final int size = onlineProfiles.size();
+        final BitSet[] hiddenTargets = new BitSet[size];
+        for (int source = 0; source < size; source++) {
+            hiddenTargets[source] = new BitSet(size);
+        }
         for (final Map.Entry<ConditionID[], ConditionID[]> hider : hiders.entrySet()) {
-            final List<OnlineProfile> targetProfiles = new ArrayList<>();
-            for (final OnlineProfile target : onlineProfiles) {
-                if (BetonQuest.conditions(target, hider.getValue())) {
-                    targetProfiles.add(target);
+            final BitSet targets = new BitSet(size);
+            for (int target = 0; target < size; target++) {
+                if (BetonQuest.conditions(onlineProfiles.get(target), hider.getValue())) {
+                    targets.set(target);
                 }
             }
-            for (final OnlineProfile source : onlineProfiles) {
-                if (!BetonQuest.conditions(source, hider.getKey())) {
-                    continue;
+            if (targets.isEmpty()) {
+                continue;
+            }
+            for (int source = 0; source < size; source++) {
+                if (BetonQuest.conditions(onlineProfiles.get(source), hider.getKey())) {
+                    hiddenTargets[source].or(targets);
                 }
-                final List<OnlineProfile> hiddenProfiles = getOrCreateProfileList(source, profilesToHide);
-                hiddenProfiles.addAll(targetProfiles);
-                hiddenProfiles.remove(source);
-                profilesToHide.put(source, hiddenProfiles);
             }
         }
-        return profilesToHide;
+        for (int source = 0; source < size; source++) {
+            hiddenTargets[source].clear(source);
+        }
+        return hiddenTargets;
     }
 
-    private List<OnlineProfile> getOrCreateProfileList(final OnlineProfile onlineProfile, final Map<OnlineProfile, List<OnlineProfile>> profilesToHide) {
-        final List<OnlineProfile> profiles = profilesToHide.get(onlineProfile);
-        return profiles == null ? new ArrayList<>() : profiles;
+    /**
+     * The players hidden from a source player.
+     *
+     * @param source  the player the targets are hidden from
+     * @param targets the UUIDs of the hidden players
+     */
+    private record HiddenPlayers(Player source, Set<UUID> targets) {
     }
 }
@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.notify;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
@@ -21,6 +22,11 @@ import java.util.UUID;
 
 @SuppressWarnings("PMD.CommentRequired")
 public class AdvancementNotifyIO extends NotifyIO {
+    /**
+     * The Gson instance used to serialize the advancements.
+     */
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -123,6 +129,6 @@ public class AdvancementNotifyIO extends NotifyIO {
         json.add("criteria", criteria);
         json.add("display", display);
 
-        return new GsonBuilder().setPrettyPrinting().create().toJson(json);
+        return GSON.toJson(json);
     }
 }
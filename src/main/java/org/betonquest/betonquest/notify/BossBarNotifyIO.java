@@ -3,10 +3,8 @@ package org.betonquest.betonquest.notify;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.VariableNumber;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
-import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
-import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.bukkit.Bukkit;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarFlag;
@@ -21,11 +19,6 @@ import java.util.Map;
 
 @SuppressWarnings("PMD.CommentRequired")
 public class BossBarNotifyIO extends NotifyIO {
-    /**
-     * Custom {@link BetonQuestLogger} instance for this class.
-     */
-    private final BetonQuestLogger log;
-
     private final List<BarFlag> barFlags;
 
     private final BarColor barColor;
@@ -34,6 +27,11 @@ public class BossBarNotifyIO extends NotifyIO {
 
     private final double progress;
 
+    /**
+     * The progress for each player, either the constant progress or a variable.
+     */
+    private final VariableNumber progressVariable;
+
     private final VariableNumber stayVariable;
 
     private final int countdown;
@@ -41,7 +39,6 @@ public class BossBarNotifyIO extends NotifyIO {
     @SuppressWarnings("PMD.CyclomaticComplexity")
     public BossBarNotifyIO(final QuestPackage pack, final Map<String, String> data) throws InstructionParseException {
         super(pack, data);
-        this.log = BetonQuest.getInstance().getLoggerFactory().create(getClass());
 
         barFlags = new ArrayList<>();
         if (data.containsKey("barflags")) {
@@ -69,6 +66,9 @@ public class BossBarNotifyIO extends NotifyIO {
         }
 
         progress = normalizeBossBarProgress(getFloatData("progress", 1));
+        final String progressString = data.get("progress");
+        progressVariable = progressString != null && progressString.startsWith("%")
+                ? new VariableNumber(pack, progressString) : new VariableNumber(progress);
         final String stayString = data.get("stay");
         stayVariable = stayString == null ? new VariableNumber(70) : new VariableNumber(pack, stayString);
         countdown = getIntegerData("countdown", 0);
@@ -80,13 +80,7 @@ public class BossBarNotifyIO extends NotifyIO {
         for (final BarFlag flag : barFlags) {
             bossBar.addFlag(flag);
         }
-        double resolvedProgress = 0;
-        try {
-            resolvedProgress = normalizeBossBarProgress(getFloatData(onlineProfile.getPlayer(), "progress", 1));
-        } catch (final InstructionParseException | QuestRuntimeException e) {
-            log.warn(pack, "Invalid variable in bossbar notification from package " + pack.getQuestPath() + ": " + e.getMessage(), e);
-        }
-        bossBar.setProgress(resolvedProgress);
+        bossBar.setProgress(normalizeBossBarProgress(progressVariable.getDouble(onlineProfile)));
         bossBar.addPlayer(onlineProfile.getPlayer());
         bossBar.setVisible(true);
 
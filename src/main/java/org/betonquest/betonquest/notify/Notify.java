@@ -17,6 +17,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 @SuppressWarnings("PMD.CommentRequired")
 public final class Notify {
@@ -27,6 +28,11 @@ public final class Notify {
 
     private static final Map<String, Map<String, String>> CATEGORY_SETTINGS = new HashMap<>();
 
+    /**
+     * The created {@link NotifyIO}s, reused for equal requests until the next {@link #load()}.
+     */
+    private static final Map<CacheKey, NotifyIO> NOTIFY_IOS = new ConcurrentHashMap<>();
+
     private static String defaultNotifyIO;
 
     private Notify() {
@@ -35,6 +41,7 @@ public final class Notify {
     public static void load() {
         loadCategorySettings();
         defaultNotifyIO = BetonQuest.getInstance().getPluginConfig().getString("default_notify_IO");
+        NOTIFY_IOS.clear();
     }
 
     public static NotifyIO get(final QuestPackage pack) {
@@ -49,7 +56,21 @@ public final class Notify {
         return get(pack, null, data);
     }
 
+    /**
+     * Gets the {@link NotifyIO} for the category and the custom data.
+     * The instance is shared by all requests with the same package, category and data.
+     *
+     * @param pack     the package the notification is sent from
+     * @param category the comma separated categories or null
+     * @param data     the custom data overriding the category settings or null
+     * @return the NotifyIO
+     */
     public static NotifyIO get(final QuestPackage pack, final String category, @Nullable final Map<String, String> data) {
+        final CacheKey key = new CacheKey(pack, category, data == null ? Map.of() : new HashMap<>(data));
+        return NOTIFY_IOS.computeIfAbsent(key, cacheKey -> create(pack, category, data));
+    }
+
+    private static NotifyIO create(final QuestPackage pack, final String category, @Nullable final Map<String, String> data) {
         final SortedSet<String> categories = getCategories(category);
 
         final Map<String, String> categoryData = getCategorySettings(categories);
@@ -92,7 +113,7 @@ public final class Notify {
         for (final String category : categories) {
             final Map<String, String> data = CATEGORY_SETTINGS.get(category);
             if (data != null) {
-                return data;
+                return new HashMap<>(data);
             }
         }
         return new HashMap<>();
@@ -150,4 +171,14 @@ public final class Notify {
         CATEGORY_SETTINGS.clear();
         CATEGORY_SETTINGS.putAll(settings);
     }
+
+    /**
+     * The identity of a requested {@link NotifyIO}.
+     *
+     * @param pack     the package the notification is sent from
+     * @param category the comma separated categories or null
+     * @param data     the custom data, not modified after creation
+     */
+    private record CacheKey(QuestPackage pack, String category, Map<String, String> data) {
+    }
 }
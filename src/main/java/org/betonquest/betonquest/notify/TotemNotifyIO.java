@@ -22,10 +22,10 @@ import java.util.Map;
 public class TotemNotifyIO extends NotifyIO {
 
     /**
-     * The totems customModelData.
-     * It instructs the game client to display a different model or texture when the totem is shown.
+     * The fake totem shown in the offhand, built once with the configured customModelData.
+     * The customModelData instructs the game client to display a different model or texture when the totem is shown.
      */
-    private final int customModelData;
+    private final ItemStack fakeTotem;
 
     /**
      * Creates a new TotemNotifyIO instance based on the users instruction string.
@@ -35,17 +35,17 @@ public class TotemNotifyIO extends NotifyIO {
      */
     public TotemNotifyIO(final QuestPackage pack, final Map<String, String> data) throws InstructionParseException {
         super(pack, data);
-        customModelData = getIntegerData("custommodeldata", 2);
+        fakeTotem = buildFakeTotem(getIntegerData("custommodeldata", 2));
     }
 
     @Override
     protected void notifyPlayer(final String message, final OnlineProfile onlineProfile) {
-        sendOffhandPacket(onlineProfile.getPlayer(), buildFakeTotem());
+        sendOffhandPacket(onlineProfile.getPlayer(), fakeTotem);
         playSilentTotemEffect(onlineProfile.getPlayer());
         sendOffhandPacket(onlineProfile.getPlayer(), onlineProfile.getPlayer().getInventory().getItemInOffHand());
     }
 
-    private ItemStack buildFakeTotem() {
+    private ItemStack buildFakeTotem(final int customModelData) {
         final ItemStack fakeTotem = new ItemStack(Material.TOTEM_OF_UNDYING);
         final ItemMeta totemMeta = fakeTotem.getItemMeta();
         assert totemMeta != null : "ItemMeta for TotemIO ItemStack is null.";
@@ -8,8 +8,6 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.config.Config;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 import java.text.SimpleDateFormat;
@@ -18,9 +16,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.Locale;
-import java.util.Map.Entry;
 
 /**
  * Player has to wait specified amount of time. He may logout, the objective
@@ -37,8 +33,6 @@ public class DelayObjective extends Objective {
 
     private VariableNumber delay;
 
-    private BukkitTask runnable;
-
     public DelayObjective(final Instruction instruction) throws InstructionParseException {
         super(instruction);
         log = BetonQuest.getInstance().getLoggerFactory().create(this.getClass());
@@ -79,32 +73,35 @@ public class DelayObjective extends Objective {
 
     @Override
     public void start() {
-        runnable = new BukkitRunnable() {
-            @Override
-            public void run() {
-                final LinkedList<Profile> players = new LinkedList<>();
-                final long time = new Date().getTime();
-                for (final Entry<Profile, ObjectiveData> entry : dataMap.entrySet()) {
-                    final Profile profile = entry.getKey();
-                    final DelayData playerData = (DelayData) entry.getValue();
-                    if (time >= playerData.getTime() && checkConditions(profile)) {
-                        // don't complete the objective, it will throw CME/
-                        // store the player instead, complete later
-                        players.add(profile);
-                    }
-                }
-                for (final Profile profile : players) {
-                    completeObjective(profile);
-                }
-            }
-        }.runTaskTimer(BetonQuest.getInstance(), 0, interval);
+        // Completions are scheduled per profile
     }
 
     @Override
-    public void stop() {
-        if (runnable != null) {
-            runnable.cancel();
+    public void start(final Profile profile) {
+        final DelayData playerData = (DelayData) dataMap.get(profile);
+        BetonQuest.getInstance().getDelayScheduler().schedule(this, profile, (long) playerData.getTime(),
+                interval * 50L, () -> tryComplete(profile));
+    }
+
+    private boolean tryComplete(final Profile profile) {
+        if (!containsPlayer(profile)) {
+            return true;
+        }
+        if (checkConditions(profile)) {
+            completeObjective(profile);
+            return true;
         }
+        return false;
+    }
+
+    @Override
+    public void stop() {
+        BetonQuest.getInstance().getDelayScheduler().cancelAll(this);
+    }
+
+    @Override
+    public void stop(final Profile profile) {
+        BetonQuest.getInstance().getDelayScheduler().cancel(this, profile);
     }
 
     @Override
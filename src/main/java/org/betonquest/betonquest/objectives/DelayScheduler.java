@@ -0,0 +1,231 @@
+package org.betonquest.betonquest.objectives;
+
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Schedules the completion of the {@link DelayObjective}s of all profiles in one shared min-heap
+ * ordered by the time they are due.
+ * <p>
+ * A single task runs every tick while anything is scheduled and only handles the entries that are due.
+ * Entries whose completion is not possible yet, for example because the conditions are not met,
+ * are scheduled again with an exponential back-off up to their maximum retry delay.
+ * Cancelled and replaced entries stay in the heap and are dropped once they are polled, so scheduling and cancelling
+ * never search the heap. The heap is rebuilt from the current entries when most of it is stale,
+ * and the task stops once nothing is scheduled.
+ * <p>
+ * This class is thread safe, the completions are run on the thread of the task.
+ */
+public class DelayScheduler {
+    /**
+     * The delay in milliseconds before the first retry of a completion that was not possible.
+     */
+    private static final long FIRST_RETRY_DELAY = 50;
+
+    /**
+     * The minimum size of the heap before it is rebuilt without the stale entries.
+     */
+    private static final int MIN_COMPACT_SIZE = 64;
+
+    /**
+     * The plugin to schedule the task for.
+     */
+    private final Plugin plugin;
+
+    /**
+     * Instant source to get the current time.
+     */
+    private final InstantSource instantSource;
+
+    /**
+     * The scheduled entries ordered by the time they are due, including cancelled and replaced ones.
+     */
+    private final PriorityQueue<Entry> queue;
+
+    /**
+     * The current entry of each owner and profile, used to recognize cancelled entries.
+     */
+    private final Map<Key, Entry> entries;
+
+    /**
+     * The task handling the due entries or null if nothing is scheduled.
+     */
+    private BukkitTask task;
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param plugin        the plugin to schedule the task for
+     * @param instantSource the instant source to get the current time
+     */
+    public DelayScheduler(final Plugin plugin, final InstantSource instantSource) {
+        this.plugin = plugin;
+        this.instantSource = instantSource;
+        this.queue = new PriorityQueue<>(Comparator.comparingLong(Entry::dueTime));
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Schedules the completion of the owner for the profile and replaces a previously scheduled completion.
+     *
+     * @param owner         the owner of the completion, usually the objective
+     * @param profile       the profile to complete for
+     * @param dueTime       the time in epoch milliseconds when the completion is due
+     * @param maxRetryDelay the maximum delay in milliseconds between retries of the completion
+     * @param completion    the completion that returns false if it was not possible yet and should be retried
+     */
+    public void schedule(final Object owner, final Profile profile, final long dueTime, final long maxRetryDelay,
+                         final BooleanSupplier completion) {
+        final Key key = new Key(owner, profile);
+        synchronized (this) {
+            final long maxDelay = Math.max(FIRST_RETRY_DELAY, maxRetryDelay);
+            add(new Entry(key, dueTime, FIRST_RETRY_DELAY, maxDelay, completion));
+        }
+    }
+
+    /**
+     * Cancels the scheduled completion of the owner for the profile.
+     *
+     * @param owner   the owner of the completion
+     * @param profile the profile to cancel the completion for
+     */
+    public void cancel(final Object owner, final Profile profile) {
+        synchronized (this) {
+            if (entries.remove(new Key(owner, profile)) != null) {
+                stopIfIdle();
+            }
+        }
+    }
+
+    /**
+     * Cancels all scheduled completions of the owner.
+     *
+     * @param owner the owner of the completions
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public void cancelAll(final Object owner) {
+        synchronized (this) {
+            entries.keySet().removeIf(key -> key.owner() == owner);
+            stopIfIdle();
+        }
+    }
+
+    /**
+     * Gets the amount of scheduled completions.
+     *
+     * @return the amount of scheduled completions
+     */
+    public int size() {
+        synchronized (this) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Runs the due completions and schedules the ones that were not possible again.
+     */
+    /* default */ void tick() {
+        final long now = instantSource.millis();
+        for (final Entry entry : pollDue(now)) {
+            if (isCurrent(entry) && !entry.completion.getAsBoolean()) {
+                retry(entry, now);
+            } else {
+                remove(entry);
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private List<Entry> pollDue(final long now) {
+        final List<Entry> due = new ArrayList<>();
+        synchronized (this) {
+            while (!queue.isEmpty() && queue.peek().dueTime <= now) {
+                final Entry entry = queue.poll();
+                if (entries.get(entry.key) == entry) {
+                    due.add(entry);
+                }
+            }
+            stopIfIdle();
+        }
+        return due;
+    }
+
+    private void stopIfIdle() {
+        if (entries.isEmpty()) {
+            queue.clear();
+            if (task != null) {
+                task.cancel();
+                task = null;
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private boolean isCurrent(final Entry entry) {
+        synchronized (this) {
+            return entries.get(entry.key) == entry;
+        }
+    }
+
+    private void remove(final Entry entry) {
+        synchronized (this) {
+            entries.remove(entry.key, entry);
+            stopIfIdle();
+        }
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private void retry(final Entry entry, final long now) {
+        synchronized (this) {
+            if (entries.get(entry.key) != entry) {
+                return;
+            }
+            add(new Entry(entry.key, now + entry.retryDelay,
+                    Math.min(entry.maxRetryDelay, entry.retryDelay * 2), entry.maxRetryDelay, entry.completion));
+        }
+    }
+
+    private void add(final Entry entry) {
+        entries.put(entry.key, entry);
+        queue.add(entry);
+        if (queue.size() >= MIN_COMPACT_SIZE && queue.size() > 2 * entries.size()) {
+            queue.clear();
+            queue.addAll(entries.values());
+        }
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+        }
+    }
+
+    /**
+     * Identifies the completion of an owner for a profile.
+     *
+     * @param owner   the owner of the completion
+     * @param profile the profile to complete for
+     */
+    private record Key(Object owner, Profile profile) {
+    }
+
+    /**
+     * A scheduled completion.
+     *
+     * @param key           the owner and profile of the completion
+     * @param dueTime       the time in epoch milliseconds when the completion is due
+     * @param retryDelay    the delay in milliseconds before the next retry
+     * @param maxRetryDelay the maximum delay in milliseconds between retries
+     * @param completion    the completion that returns false if it should be retried
+     */
+    private record Entry(Key key, long dueTime, long retryDelay, long maxRetryDelay, BooleanSupplier completion) {
+    }
+}
@@ -10,23 +10,19 @@ import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.utils.PlayerConverter;
 import org.betonquest.betonquest.utils.location.CompoundLocation;
-import org.bukkit.Bukkit;
+import org.betonquest.betonquest.utils.location.PlayerMoveDispatcher;
+import org.betonquest.betonquest.utils.location.PlayerMoveHandler;
 import org.bukkit.Location;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.event.vehicle.VehicleMoveEvent;
-
-import java.util.List;
 
 /**
- * Player has to reach certain radius around the specified location
+ * Player has to reach certain radius around the specified location.
+ * <p>
+ * If neither the location nor the range contain variables,
+ * only moves near the location are dispatched to this objective.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class LocationObjective extends Objective implements Listener {
+public class LocationObjective extends Objective implements PlayerMoveHandler {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -44,22 +40,10 @@ public class LocationObjective extends Objective implements Listener {
         range = instruction.getVarNum();
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onMove(final PlayerMoveEvent event) {
-        qreHandler.handle(() -> {
-            checkLocation(event.getTo(), PlayerConverter.getID(event.getPlayer()));
-        });
-    }
-
-    @EventHandler(ignoreCancelled = true)
-    public void onRide(final VehicleMoveEvent event) {
+    @Override
+    public void onMove(final Player player, final Location to) {
         qreHandler.handle(() -> {
-            final List<Entity> passengers = event.getVehicle().getPassengers();
-            for (final Entity passenger : passengers) {
-                if (passenger instanceof final Player player) {
-                    checkLocation(event.getTo(), PlayerConverter.getID(player));
-                }
-            }
+            checkLocation(to, PlayerConverter.getID(player));
         });
     }
 
@@ -79,12 +63,22 @@ public class LocationObjective extends Objective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        final PlayerMoveDispatcher dispatcher = BetonQuest.getInstance().getPlayerMoveDispatcher();
+        if (loc.isConstant() && range.isConstant()) {
+            try {
+                dispatcher.register(this, loc.getLocation(null), range.getDouble(null));
+                return;
+            } catch (final QuestRuntimeException e) {
+                log.warn(instruction.getPackage(), "Error while indexing location of '" + instruction.getID() + "' objective: "
+                        + e.getMessage(), e);
+            }
+        }
+        dispatcher.register(this);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        BetonQuest.getInstance().getPlayerMoveDispatcher().unregister(this);
     }
 
     @Override
@@ -115,6 +115,7 @@ public class GiveEvent implements Event {
      * @return the items that could not be given
      */
     private ItemStack giveToInventory(final Player player, final ItemStack itemStack) {
+        BetonQuest.getInstance().getItemCountIndex().invalidate(player.getUniqueId());
         return player.getInventory().addItem(itemStack).values().stream().findAny().orElse(null);
     }
 
@@ -1,5 +1,8 @@
 package org.betonquest.betonquest.utils;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
@@ -12,11 +15,13 @@ import org.bukkit.block.BlockState;
 import org.bukkit.block.data.BlockData;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -35,6 +40,18 @@ import java.util.regex.PatternSyntaxException;
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.GodClass"})
 public class BlockSelector {
+    /**
+     * The maximum amount of block states whose parsed states are cached.
+     */
+    private static final int STATE_CACHE_SIZE = 4096;
+
+    /**
+     * The parsed states of block data, shared by all selectors.
+     */
+    private static final LoadingCache<BlockData, Map<String, String>> BLOCK_STATES = CacheBuilder.newBuilder()
+            .maximumSize(STATE_CACHE_SIZE)
+            .build(CacheLoader.from(BlockSelector::parseBlockStates));
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -42,8 +59,19 @@ public class BlockSelector {
 
     private final List<Material> materials;
 
+    /**
+     * The materials for fast lookups while matching.
+     */
+    private final Set<Material> materialSet;
+
     private final Map<String, String> states;
 
+    /**
+     * The compiled patterns of the state values. If a value is not a valid regex,
+     * it has no pattern and only matches equal values.
+     */
+    private final Map<String, Pattern> statePatterns;
+
     private final Random random = new Random();
 
     /**
@@ -60,6 +88,8 @@ public class BlockSelector {
         if (materials.isEmpty()) {
             throw new InstructionParseException("Invalid selector, no material found for '" + block + "'!");
         }
+        materialSet = EnumSet.copyOf(materials);
+        statePatterns = compileStatePatterns(states);
     }
 
     /**
@@ -154,7 +184,7 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector}
      */
     public boolean match(final Material material) {
-        return materials.contains(material);
+        return materialSet.contains(material);
     }
 
     /**
@@ -167,11 +197,12 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector} and the {@link BlockState} matches.
      */
     public boolean match(final Block block, final boolean exactMatch) {
-        if (!match(block.getBlockData().getMaterial())) {
+        final BlockData blockData = block.getBlockData();
+        if (!match(blockData.getMaterial())) {
             return false;
         }
 
-        final Map<String, String> blockStates = getStates(getSelectorParts(block.getBlockData().getAsString())[2]);
+        final Map<String, String> blockStates = BLOCK_STATES.getUnchecked(blockData);
         if (states.isEmpty()) {
             return !exactMatch || blockStates.isEmpty();
         }
@@ -180,17 +211,13 @@ public class BlockSelector {
         }
 
         for (final Map.Entry<String, String> entry : states.entrySet()) {
-            final String singleState = entry.getKey();
-            if (!blockStates.containsKey(singleState)) {
+            final String blockState = blockStates.get(entry.getKey());
+            if (blockState == null) {
                 return false;
             }
-
-            final String blockState = blockStates.get(singleState);
-            final String state = entry.getValue();
-            if (!blockState.equals(state)) {
-                final Pattern statePattern = Pattern.compile("^" + state + "$");
-                final Matcher stateMatcher = statePattern.matcher(blockState);
-                if (!stateMatcher.find()) {
+            if (!blockState.equals(entry.getValue())) {
+                final Pattern statePattern = statePatterns.get(entry.getKey());
+                if (statePattern == null || !statePattern.matcher(blockState).find()) {
                     return false;
                 }
             }
@@ -198,7 +225,24 @@ public class BlockSelector {
         return true;
     }
 
-    private String[] getSelectorParts(final String selector) {
+    private static Map<String, String> parseBlockStates(final BlockData blockData) {
+        return Map.copyOf(getStates(getSelectorParts(blockData.getAsString())[2]));
+    }
+
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private static Map<String, Pattern> compileStatePatterns(final Map<String, String> states) {
+        final Map<String, Pattern> patterns = new HashMap<>();
+        for (final Map.Entry<String, String> entry : states.entrySet()) {
+            try {
+                patterns.put(entry.getKey(), Pattern.compile("^" + entry.getValue() + "$"));
+            } catch (final PatternSyntaxException exception) {
+                // the value is matched literally
+            }
+        }
+        return patterns;
+    }
+
+    private static String[] getSelectorParts(final String selector) {
         final String[] selectorParts = new String[3];
         String restSelector = selector;
 
@@ -221,7 +265,7 @@ public class BlockSelector {
     }
 
     @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
-    private int getBracketIndex(final String text, final int openedBrackets) {
+    private static int getBracketIndex(final String text, final int openedBrackets) {
         final int indexOpen = text.lastIndexOf('[');
         final int indexClose = text.lastIndexOf(']');
         if (indexOpen == -1 && indexClose == -1) {
@@ -285,7 +329,7 @@ public class BlockSelector {
         return materials;
     }
 
-    private Map<String, String> getStates(final String statesString) {
+    private static Map<String, String> getStates(final String statesString) {
         final Map<String, String> states = new HashMap<>();
         if (statesString == null || statesString.isEmpty()) {
             return states;
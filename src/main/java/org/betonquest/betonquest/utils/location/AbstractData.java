@@ -114,6 +114,16 @@ abstract class AbstractData<T extends Cloneable> {
         return object == null ? parseVariableObject(profile) : clone(object);
     }
 
+    /**
+     * Checks if the input string did not contain any {@link Variable}s,
+     * so the object is the same for every player.
+     *
+     * @return true if the object does not depend on {@link Variable}s
+     */
+    public boolean isConstant() {
+        return object != null;
+    }
+
     private T parseVariableObject(final Profile profile) throws QuestRuntimeException {
         final String[] variables = new String[this.objectVariables.size()];
         for (int i = 0; i < this.objectVariables.size(); i++) {
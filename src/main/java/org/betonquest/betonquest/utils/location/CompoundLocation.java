@@ -69,6 +69,16 @@ public class CompoundLocation {
         return loc.clone().add(vec);
     }
 
+    /**
+     * Checks if neither the location nor the vector contain {@link Variable}s,
+     * so the location is the same for every player.
+     *
+     * @return true if the location does not depend on {@link Variable}s
+     */
+    public boolean isConstant() {
+        return locationData.isConstant() && (vectorData == null || vectorData.isConstant());
+    }
+
     public LocationData getLocationData() {
         return locationData;
     }
@@ -0,0 +1,220 @@
+package org.betonquest.betonquest.utils.location;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Dispatches player moves to the {@link PlayerMoveHandler}s that can be affected by them.
+ * <p>
+ * Handlers with a fixed target area are indexed per world in a grid of 16x16 block cells,
+ * so a move only reaches the handlers whose area covers the cell of the new location.
+ * Handlers without a fixed target area receive every move.
+ * Moves within the same block are not dispatched at all.
+ * <p>
+ * Handlers can be registered and unregistered at any time, also while a move is dispatched.
+ */
+public class PlayerMoveDispatcher implements Listener {
+    /**
+     * The amount of bits to shift a block coordinate to get the cell coordinate.
+     */
+    private static final int CELL_SHIFT = 4;
+
+    /**
+     * The maximum amount of cells a handler can be indexed in,
+     * handlers with a larger area receive every move instead.
+     */
+    private static final int MAX_INDEXED_CELLS = 1024;
+
+    /**
+     * The indexed handlers by world name and cell key.
+     */
+    private final Map<String, Map<Long, Set<PlayerMoveHandler>>> worlds;
+
+    /**
+     * The indexed area of each indexed handler.
+     */
+    private final Map<PlayerMoveHandler, Area> areas;
+
+    /**
+     * The handlers that receive every move.
+     */
+    private final Set<PlayerMoveHandler> unindexed;
+
+    /**
+     * Creates a new dispatcher and registers it as listener.
+     *
+     * @param plugin the plugin to register the listener for
+     */
+    public PlayerMoveDispatcher(final Plugin plugin) {
+        this.worlds = new ConcurrentHashMap<>();
+        this.areas = new ConcurrentHashMap<>();
+        this.unindexed = new CopyOnWriteArraySet<>();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    private static int cell(final double coordinate) {
+        return (int) Math.floor(coordinate) >> CELL_SHIFT;
+    }
+
+    private static long key(final int cellX, final int cellZ) {
+        return (long) cellX << 32 | cellZ & 0xFFFF_FFFFL;
+    }
+
+    private static boolean isSameBlock(final Location from, final Location to) {
+        return from.getBlockX() == to.getBlockX()
+                && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ()
+                && Objects.equals(from.getWorld(), to.getWorld());
+    }
+
+    /**
+     * Registers a handler that only receives moves which end near the given location.
+     * If the area is too large to be indexed, the handler receives every move.
+     * A previous registration of the handler is replaced.
+     *
+     * @param handler the handler to register
+     * @param center  the center of the target area
+     * @param radius  the radius of the target area
+     */
+    public void register(final PlayerMoveHandler handler, final Location center, final double radius) {
+        final World world = center.getWorld();
+        if (world == null || Double.isNaN(radius)) {
+            register(handler);
+            return;
+        }
+        final double range = Math.max(0, radius);
+        final Area area = new Area(world.getName(), cell(center.getX() - range), cell(center.getZ() - range),
+                cell(center.getX() + range), cell(center.getZ() + range));
+        if (area.cellCount() > MAX_INDEXED_CELLS) {
+            register(handler);
+            return;
+        }
+        unregister(handler);
+        areas.put(handler, area);
+        final Map<Long, Set<PlayerMoveHandler>> cells = worlds.computeIfAbsent(area.world(), name -> new ConcurrentHashMap<>());
+        for (int cellX = area.minX(); cellX <= area.maxX(); cellX++) {
+            for (int cellZ = area.minZ(); cellZ <= area.maxZ(); cellZ++) {
+                cells.compute(key(cellX, cellZ), (key, handlers) -> {
+                    final Set<PlayerMoveHandler> cellHandlers = handlers == null ? new CopyOnWriteArraySet<>() : handlers;
+                    cellHandlers.add(handler);
+                    return cellHandlers;
+                });
+            }
+        }
+    }
+
+    /**
+     * Registers a handler that receives every move, for example because its target depends on the player.
+     * A previous registration of the handler is replaced.
+     *
+     * @param handler the handler to register
+     */
+    public void register(final PlayerMoveHandler handler) {
+        unregister(handler);
+        unindexed.add(handler);
+    }
+
+    /**
+     * Unregisters a handler. Does nothing if the handler is not registered.
+     *
+     * @param handler the handler to unregister
+     */
+    public void unregister(final PlayerMoveHandler handler) {
+        unindexed.remove(handler);
+        final Area area = areas.remove(handler);
+        if (area == null) {
+            return;
+        }
+        final Map<Long, Set<PlayerMoveHandler>> cells = worlds.get(area.world());
+        if (cells == null) {
+            return;
+        }
+        for (int cellX = area.minX(); cellX <= area.maxX(); cellX++) {
+            for (int cellZ = area.minZ(); cellZ <= area.maxZ(); cellZ++) {
+                cells.computeIfPresent(key(cellX, cellZ), (key, handlers) -> {
+                    handlers.remove(handler);
+                    return handlers.isEmpty() ? null : handlers;
+                });
+            }
+        }
+    }
+
+    /**
+     * Dispatches player moves to another block.
+     *
+     * @param event the move event
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onMove(final PlayerMoveEvent event) {
+        final Location to = event.getTo();
+        if (to == null || isSameBlock(event.getFrom(), to)) {
+            return;
+        }
+        dispatch(event.getPlayer(), to);
+    }
+
+    /**
+     * Dispatches vehicle moves to another block for all player passengers.
+     *
+     * @param event the vehicle move event
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onRide(final VehicleMoveEvent event) {
+        final Location to = event.getTo();
+        if (isSameBlock(event.getFrom(), to)) {
+            return;
+        }
+        for (final Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof final Player player) {
+                dispatch(player, to);
+            }
+        }
+    }
+
+    private void dispatch(final Player player, final Location to) {
+        final World world = to.getWorld();
+        if (world != null) {
+            final Map<Long, Set<PlayerMoveHandler>> cells = worlds.get(world.getName());
+            if (cells != null) {
+                final Set<PlayerMoveHandler> handlers = cells.get(key(cell(to.getX()), cell(to.getZ())));
+                if (handlers != null) {
+                    for (final PlayerMoveHandler handler : handlers) {
+                        handler.onMove(player, to);
+                    }
+                }
+            }
+        }
+        for (final PlayerMoveHandler handler : unindexed) {
+            handler.onMove(player, to);
+        }
+    }
+
+    /**
+     * The cells a handler is indexed in.
+     *
+     * @param world the name of the world
+     * @param minX  the lowest cell x coordinate
+     * @param minZ  the lowest cell z coordinate
+     * @param maxX  the highest cell x coordinate
+     * @param maxZ  the highest cell z coordinate
+     */
+    private record Area(String world, int minX, int minZ, int maxX, int maxZ) {
+        private long cellCount() {
+            return ((long) maxX - minX + 1) * ((long) maxZ - minZ + 1);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.betonquest.betonquest.utils.location;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+/**
+ * Handles player moves dispatched by the {@link PlayerMoveDispatcher}.
+ */
+@FunctionalInterface
+public interface PlayerMoveHandler {
+    /**
+     * Called when a player moved to another block, either by walking or by riding a vehicle.
+     *
+     * @param player the player that moved
+     * @param to     the location the player moved to
+     */
+    void onMove(Player player, Location to);
+}
@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.variables;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.Instruction;
 import org.betonquest.betonquest.api.Variable;
@@ -8,10 +7,7 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.item.QuestItem;
 import org.bukkit.ChatColor;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 
-import java.util.List;
 import java.util.Locale;
 
 /**
@@ -85,24 +81,8 @@ public class ItemVariable extends Variable {
         };
     }
 
-    @SuppressFBWarnings("NP_NULL_ON_SOME_PATH_FROM_RETURN_VALUE")
     private int itemAmount(final Profile profile) {
-        final Player player = profile.getOnlineProfile().get().getPlayer();
-        int itemAmount = 0;
-        for (final ItemStack item : player.getInventory().getContents()) {
-            if (item == null || !questItem.compare(item)) {
-                continue;
-            }
-            itemAmount += item.getAmount();
-        }
-        final List<ItemStack> backpackItems = BetonQuest.getInstance().getPlayerData(profile).getBackpack();
-        for (final ItemStack item : backpackItems) {
-            if (item == null || !questItem.compare(item)) {
-                continue;
-            }
-            itemAmount += item.getAmount();
-        }
-        return itemAmount;
+        return BetonQuest.getInstance().getItemCountIndex().getAmount(profile, questItem);
     }
 
     private String conditionalRaw(final String string) {
@@ -9,6 +9,7 @@ import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.id.ObjectiveID;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Resolves to a specified property of an objective.
@@ -46,6 +47,16 @@ public class ObjectivePropertyVariable extends Variable {
         objective = tempObjective;
     }
 
+    /**
+     * Gets the objective whose property this variable displays.
+     *
+     * @return the objective or null if the ID is invalid
+     */
+    @Nullable
+    public ObjectiveID getObjective() {
+        return objective;
+    }
+
     @Override
     public String getValue(final Profile profile) {
         final Objective objective = BetonQuest.getInstance().getObjective(this.objective);
@@ -71,6 +71,15 @@ public class PointVariable extends Variable {
         return getValue(BetonQuest.getInstance().getPlayerData(profile).getPoints());
     }
 
+    /**
+     * Gets the full name of the point category this variable displays.
+     *
+     * @return the point category
+     */
+    public String getCategory() {
+        return category;
+    }
+
     protected String getValue(final List<Point> points) {
         Point point = null;
         for (final Point p : points) {
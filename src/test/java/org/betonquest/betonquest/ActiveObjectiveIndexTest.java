@@ -0,0 +1,54 @@
+package org.betonquest.betonquest;
+
+import org.betonquest.betonquest.api.Objective;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link ActiveObjectiveIndex}.
+ */
+class ActiveObjectiveIndexTest {
+    /**
+     * The index to test.
+     */
+    private final ActiveObjectiveIndex index = new ActiveObjectiveIndex();
+
+    @Test
+    void testObjectivesAreIndexedPerProfile() {
+        final Profile profile = mock(Profile.class);
+        final Profile other = mock(Profile.class);
+        final Objective first = mock(Objective.class);
+        final Objective second = mock(Objective.class);
+        index.add(profile, first);
+        index.add(profile, second);
+        index.add(other, second);
+        final List<Objective> objectives = index.get(profile);
+        assertEquals(2, objectives.size(), "profile should have both objectives");
+        assertTrue(objectives.containsAll(List.of(first, second)), "profile should have both objectives");
+        assertEquals(List.of(second), index.get(other), "other profile should only have its objective");
+    }
+
+    @Test
+    void testRemovedObjectiveIsNotReturned() {
+        final Profile profile = mock(Profile.class);
+        final Objective objective = mock(Objective.class);
+        index.add(profile, objective);
+        index.remove(profile, objective);
+        assertTrue(index.get(profile).isEmpty(), "removed objective should not be returned");
+    }
+
+    @Test
+    void testReturnedListIsIndependentCopy() {
+        final Profile profile = mock(Profile.class);
+        final Objective objective = mock(Objective.class);
+        index.add(profile, objective);
+        final List<Objective> objectives = index.get(profile);
+        index.remove(profile, objective);
+        assertEquals(List.of(objective), objectives, "returned list should not change when the index changes");
+    }
+}
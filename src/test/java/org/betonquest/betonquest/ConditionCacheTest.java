@@ -0,0 +1,83 @@
+package org.betonquest.betonquest;
+
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.id.ConditionID;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link ConditionCache}.
+ */
+class ConditionCacheTest {
+    /**
+     * The profile the conditions are checked for.
+     */
+    private Profile profile;
+
+    /**
+     * The condition to check.
+     */
+    private ConditionID conditionID;
+
+    /**
+     * The mocked static {@link Bukkit} class.
+     */
+    private MockedStatic<Bukkit> bukkit;
+
+    /**
+     * The cache to test.
+     */
+    private ConditionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        profile = mock(Profile.class);
+        when(profile.getProfileUUID()).thenReturn(UUID.randomUUID());
+        conditionID = mock(ConditionID.class);
+        bukkit = mockStatic(Bukkit.class);
+        bukkit.when(Bukkit::getScheduler).thenReturn(mock(BukkitScheduler.class));
+        cache = new ConditionCache(mock(Plugin.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bukkit.close();
+    }
+
+    @Test
+    void testStoredResultIsReturned() {
+        assertNull(cache.get(profile, conditionID), "unchecked condition should not be cached");
+        cache.put(profile, conditionID, true);
+        assertEquals(Boolean.TRUE, cache.get(profile, conditionID), "stored result should be returned");
+        assertEquals(1, cache.getHitCount(), "one check should be a hit");
+        assertEquals(1, cache.getMissCount(), "one check should be a miss");
+    }
+
+    @Test
+    void testInvalidatedProfileIsChecked() {
+        final Profile other = mock(Profile.class);
+        when(other.getProfileUUID()).thenReturn(UUID.randomUUID());
+        cache.put(profile, conditionID, true);
+        cache.put(other, conditionID, false);
+        cache.invalidate(profile);
+        assertNull(cache.get(profile, conditionID), "result of invalidated profile should be removed");
+        assertEquals(Boolean.FALSE, cache.get(other, conditionID), "result of other profile should be kept");
+    }
+
+    @Test
+    void testInvalidateAllRemovesEveryResult() {
+        cache.put(profile, conditionID, true);
+        cache.invalidateAll();
+        assertNull(cache.get(profile, conditionID), "all results should be removed");
+    }
+}
@@ -0,0 +1,58 @@
+package org.betonquest.betonquest;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link ConditionExecutor}.
+ */
+class ConditionExecutorTest {
+    /**
+     * The executor to test.
+     */
+    private ConditionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ConditionExecutor(mock(BetonQuestLogger.class), 1, 10, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testTaskRunsOnNamedThread() throws ExecutionException, InterruptedException, TimeoutException {
+        final String threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor)
+                .get(5, TimeUnit.SECONDS);
+        assertTrue(threadName.startsWith("BetonQuest-Conditions-"), "task should run on a condition thread");
+    }
+
+    @Test
+    void testNestedTaskDoesNotWaitForSingleThread() throws ExecutionException, InterruptedException, TimeoutException {
+        final CompletableFuture<String> outer = CompletableFuture.supplyAsync(() -> {
+            final CompletableFuture<String> inner = CompletableFuture.supplyAsync(() -> "inner", executor);
+            return inner.join();
+        }, executor);
+        assertEquals("inner", outer.get(5, TimeUnit.SECONDS), "nested task should complete with only one thread");
+    }
+
+    @Test
+    void testTaskRunsOnCallerAfterShutdown() {
+        executor.shutdown();
+        final Thread caller = Thread.currentThread();
+        final CompletableFuture<Thread> future = CompletableFuture.supplyAsync(Thread::currentThread, executor);
+        assertSame(caller, future.join(), "task should run on the calling thread after shutdown");
+    }
+}
@@ -0,0 +1,95 @@
+package org.betonquest.betonquest;
+
+import org.betonquest.betonquest.api.Variable;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.logger.SingletonLoggerFactory;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link VariableString}.
+ */
+class VariableStringTest {
+    /**
+     * The package the strings are defined in.
+     */
+    private QuestPackage questPackage;
+
+    /**
+     * The profile to resolve the strings for.
+     */
+    private Profile profile;
+
+    /**
+     * The mocked static {@link BetonQuest} class.
+     */
+    private MockedStatic<BetonQuest> betonQuest;
+
+    @BeforeEach
+    void setUp() {
+        questPackage = mock(QuestPackage.class);
+        profile = mock(Profile.class);
+        final BetonQuest instance = mock(BetonQuest.class);
+        when(instance.getLoggerFactory()).thenReturn(new SingletonLoggerFactory(mock(BetonQuestLogger.class)));
+        betonQuest = mockStatic(BetonQuest.class);
+        betonQuest.when(BetonQuest::getInstance).thenReturn(instance);
+    }
+
+    @AfterEach
+    void tearDown() {
+        betonQuest.close();
+    }
+
+    private Variable mockVariable(final String name, final String value) {
+        final Variable variable = mock(Variable.class);
+        when(variable.getValue(profile)).thenReturn(value);
+        betonQuest.when(() -> BetonQuest.createVariable(questPackage, name)).thenReturn(variable);
+        return variable;
+    }
+
+    @Test
+    void testStringWithoutVariablesIsReturnedUnchanged() throws InstructionParseException {
+        final VariableString string = new VariableString(questPackage, "no variables here");
+        assertFalse(string.containsVariables(), "string should not contain variables");
+        assertEquals("no variables here", string.getString(profile), "string should be unchanged");
+    }
+
+    @Test
+    void testVariablesAreResolvedInPlace() throws InstructionParseException {
+        mockVariable("%a%", "1");
+        mockVariable("%b%", "2");
+        final VariableString string = new VariableString(questPackage, "%a% and %b%, again %a%!");
+        assertTrue(string.containsVariables(), "string should contain variables");
+        assertEquals("1 and 2, again 1!", string.getString(profile), "all variables should be resolved");
+    }
+
+    @Test
+    void testVariablesAreOnlyCreatedAgainAfterReload() throws InstructionParseException {
+        betonQuest.when(BetonQuest::getVariablesVersion).thenReturn(0);
+        mockVariable("%a%", "old");
+        final VariableString string = new VariableString(questPackage, "value: %a%");
+        assertEquals("value: old", string.getString(profile), "variable should be resolved");
+        betonQuest.verify(() -> BetonQuest.createVariable(questPackage, "%a%"), times(1));
+
+        betonQuest.when(BetonQuest::getVariablesVersion).thenReturn(1);
+        mockVariable("%a%", "new");
+        assertEquals("value: new", string.getString(profile), "reloaded variable should be resolved");
+        betonQuest.verify(() -> BetonQuest.createVariable(questPackage, "%a%"), times(2));
+    }
+
+    @Test
+    void testInvalidVariableThrowsException() {
+        betonQuest.when(() -> BetonQuest.createVariable(questPackage, "%invalid%"))
+                .thenThrow(new InstructionParseException("invalid"));
+        assertThrows(InstructionParseException.class, () -> new VariableString(questPackage, "%invalid%"),
+                "invalid variables should not be accepted");
+    }
+}
@@ -0,0 +1,88 @@
+package org.betonquest.betonquest.compatibility.placeholderapi;
+
+import org.betonquest.betonquest.api.PlayerTagAddEvent;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.InstantSource;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link PlaceholderCache}.
+ */
+class PlaceholderCacheTest {
+    /**
+     * The player the placeholders are requested for.
+     */
+    private final UUID player = UUID.randomUUID();
+
+    /**
+     * The amount of resolved values.
+     */
+    private final AtomicInteger resolved = new AtomicInteger();
+
+    /**
+     * The resolver that counts the resolved values.
+     */
+    private final Supplier<String> resolver = () -> String.valueOf(resolved.incrementAndGet());
+
+    /**
+     * The source of the current time.
+     */
+    private InstantSource instantSource;
+
+    /**
+     * The cache to test.
+     */
+    private PlaceholderCache cache;
+
+    @BeforeEach
+    void setUp() {
+        instantSource = mock(InstantSource.class);
+        cache = new PlaceholderCache(instantSource);
+        final MemoryConfiguration config = new MemoryConfiguration();
+        config.set("enabled", true);
+        config.set("default_ttl", 1000);
+        config.set("ttl.tag", 0);
+        cache.configure(config);
+    }
+
+    @Test
+    void testValueIsReusedUntilExpired() {
+        when(instantSource.millis()).thenReturn(0L);
+        assertEquals("1", cache.get(player, "pack:point.x.amount", "point", resolver), "first request should resolve");
+        when(instantSource.millis()).thenReturn(999L);
+        assertEquals("1", cache.get(player, "pack:point.x.amount", "point", resolver), "value should be cached");
+        when(instantSource.millis()).thenReturn(1000L);
+        assertEquals("2", cache.get(player, "pack:point.x.amount", "point", resolver), "expired value should resolve again");
+    }
+
+    @Test
+    void testTypeWithoutTimeToLiveIsNotCached() {
+        assertEquals("1", cache.get(player, "pack:tag.x", "tag", resolver), "first request should resolve");
+        assertEquals("2", cache.get(player, "pack:tag.x", "tag", resolver), "value should not be cached");
+    }
+
+    @Test
+    void testTagChangeDropsValuesOfPlayer() {
+        final Profile profile = mock(Profile.class);
+        when(profile.getPlayerUUID()).thenReturn(player);
+        assertEquals("1", cache.get(player, "pack:point.x.amount", "point", resolver), "first request should resolve");
+        cache.onTagAdd(new PlayerTagAddEvent(profile, "tag"));
+        assertEquals("2", cache.get(player, "pack:point.x.amount", "point", resolver), "dropped value should resolve again");
+    }
+
+    @Test
+    void testDisabledCacheResolvesEveryRequest() {
+        cache.configure(null);
+        assertEquals("1", cache.get(player, "pack:point.x.amount", "point", resolver), "first request should resolve");
+        assertEquals("2", cache.get(player, "pack:point.x.amount", "point", resolver), "value should not be cached");
+    }
+}
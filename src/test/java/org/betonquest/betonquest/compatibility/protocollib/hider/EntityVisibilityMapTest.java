@@ -0,0 +1,224 @@
+package org.betonquest.betonquest.compatibility.protocollib.hider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test {@link EntityVisibilityMap}.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+class EntityVisibilityMapTest {
+    /**
+     * The amount of threads changing the map.
+     */
+    private static final int WRITERS = 4;
+
+    /**
+     * The amount of threads reading the map.
+     */
+    private static final int READERS = 4;
+
+    /**
+     * The amount of observers owned by each writer.
+     */
+    private static final int OBSERVERS_PER_WRITER = 8;
+
+    /**
+     * The amount of entities each writer hides and shows.
+     */
+    private static final int ENTITIES = 64;
+
+    /**
+     * The amount of changes each writer does.
+     */
+    private static final int ITERATIONS = 20_000;
+
+    /**
+     * An entity that is stored for every observer for the whole test.
+     */
+    private static final int ANCHOR_ENTITY = 999;
+
+    /**
+     * An entity that is never stored.
+     */
+    private static final int MISSING_ENTITY = 500;
+
+    /**
+     * The map to test.
+     */
+    private final EntityVisibilityMap map = new EntityVisibilityMap();
+
+    private static int observer(final int writer, final int index) {
+        return writer * 100 + index;
+    }
+
+    @Test
+    void testAddReportsPreviousMembership() {
+        assertFalse(map.add(1, 2), "first add should not report previous membership");
+        assertTrue(map.add(1, 2), "second add should report previous membership");
+        assertTrue(map.contains(1, 2), "added entity should be contained");
+        assertFalse(map.contains(2, 1), "membership should not be symmetric");
+    }
+
+    @Test
+    void testRemoveReportsPreviousMembership() {
+        map.add(1, 2);
+        assertTrue(map.remove(1, 2), "removing a stored entity should report previous membership");
+        assertFalse(map.remove(1, 2), "removing a missing entity should not report previous membership");
+        assertFalse(map.contains(1, 2), "removed entity should not be contained");
+        assertEquals(0, map.observerCount(), "observer without entities should be dropped");
+    }
+
+    @Test
+    void testRemoveEntityRemovesFromAllObservers() {
+        for (int observer = 0; observer < 20; observer++) {
+            map.add(observer, 7);
+            map.add(observer, 8);
+        }
+        map.removeEntity(7);
+        for (int observer = 0; observer < 20; observer++) {
+            assertFalse(map.contains(observer, 7), "removed entity should not be contained for any observer");
+            assertTrue(map.contains(observer, 8), "other entities should be kept");
+        }
+    }
+
+    @Test
+    void testRemoveEntityDropsEmptyObservers() {
+        for (int observer = 0; observer < 20; observer++) {
+            map.add(observer, 7);
+            if (observer % 2 == 0) {
+                map.add(observer, 8);
+            }
+        }
+        map.removeEntity(7);
+        assertEquals(10, map.observerCount(), "observers without entities should be dropped");
+        for (int observer = 0; observer < 20; observer += 2) {
+            assertTrue(map.contains(observer, 8), "observers with other entities should be kept after rehashing");
+        }
+        map.removeEntity(8);
+        assertEquals(0, map.observerCount(), "all observers should be dropped");
+        assertFalse(map.add(3, 8), "dropped observer should start without entities");
+    }
+
+    @Test
+    void testRemoveObserverKeepsOtherObservers() {
+        for (int observer = 0; observer < 20; observer++) {
+            map.add(observer, observer);
+        }
+        map.removeObserver(5);
+        assertFalse(map.contains(5, 5), "removed observer should have no entities");
+        assertEquals(19, map.observerCount(), "only the removed observer should be dropped");
+        for (int observer = 0; observer < 20; observer++) {
+            if (observer != 5) {
+                assertTrue(map.contains(observer, observer), "other observers should be kept after rehashing");
+            }
+        }
+    }
+
+    @Test
+    void testNegativeAndCollidingIDs() {
+        final int[] observers = {Integer.MIN_VALUE, -1, 0, 1, 16, 32, 64, Integer.MAX_VALUE};
+        for (final int observer : observers) {
+            map.add(observer, -observer);
+        }
+        for (final int observer : observers) {
+            assertTrue(map.contains(observer, -observer), "every observer should be found");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    void testConcurrentHideShowAndPacketChecks() throws Exception {
+        for (int writer = 0; writer < WRITERS; writer++) {
+            for (int index = 0; index < OBSERVERS_PER_WRITER; index++) {
+                map.add(observer(writer, index), ANCHOR_ENTITY);
+            }
+        }
+        final boolean[][][] expected = new boolean[WRITERS][OBSERVERS_PER_WRITER][ENTITIES];
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicInteger violations = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        try {
+            final List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                final int writerIndex = writer;
+                writers.add(executor.submit(() -> {
+                    final Random random = new Random(writerIndex);
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        final int index = random.nextInt(OBSERVERS_PER_WRITER);
+                        final int entity = random.nextInt(ENTITIES);
+                        final int observer = observer(writerIndex, index);
+                        final boolean before = expected[writerIndex][index][entity];
+                        final boolean reported;
+                        if (random.nextBoolean()) {
+                            reported = map.add(observer, entity);
+                            expected[writerIndex][index][entity] = true;
+                        } else {
+                            reported = map.remove(observer, entity);
+                            expected[writerIndex][index][entity] = false;
+                        }
+                        if (reported != before) {
+                            violations.incrementAndGet();
+                        }
+                        final int transientObserver = observer(writerIndex, 50);
+                        map.add(transientObserver, entity);
+                        map.removeObserver(transientObserver);
+                    }
+                    return null;
+                }));
+            }
+            final List<Future<?>> readers = new ArrayList<>();
+            for (int reader = 0; reader < READERS; reader++) {
+                final int readerIndex = reader;
+                readers.add(executor.submit(() -> {
+                    final Random random = new Random(100 + readerIndex);
+                    start.await();
+                    while (running.get()) {
+                        final int observer = observer(random.nextInt(WRITERS), random.nextInt(OBSERVERS_PER_WRITER));
+                        if (!map.contains(observer, ANCHOR_ENTITY) || map.contains(observer, MISSING_ENTITY)) {
+                            violations.incrementAndGet();
+                        }
+                        map.contains(observer, random.nextInt(ENTITIES));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            for (final Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, violations.get(), "concurrent readers and writers should always see a consistent state");
+        for (int writer = 0; writer < WRITERS; writer++) {
+            for (int index = 0; index < OBSERVERS_PER_WRITER; index++) {
+                for (int entity = 0; entity < ENTITIES; entity++) {
+                    assertEquals(expected[writer][index][entity], map.contains(observer(writer, index), entity),
+                            "final state should match the changes of the writers");
+                }
+            }
+            assertFalse(map.contains(observer(writer, 50), 0), "removed observers should be gone");
+        }
+        assertEquals(WRITERS * OBSERVERS_PER_WRITER, map.observerCount(), "only the anchored observers should be left");
+    }
+}
@@ -0,0 +1,62 @@
+package org.betonquest.betonquest.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test {@link MessageTemplate}.
+ */
+class MessageTemplateTest {
+    @Test
+    void testColorCodesAreTranslated() {
+        final MessageTemplate template = MessageTemplate.compile("&2Hello &fworld");
+        assertEquals("§2Hello §fworld", template.format(), "color codes should be translated");
+    }
+
+    @Test
+    void testPositionalSlotsAreFilled() {
+        final MessageTemplate template = MessageTemplate.compile("&2Received {1}&2 x{2}");
+        assertEquals("§2Received §aApple§2 x3", template.format("&aApple", "3"),
+                "arguments should be inserted with translated color codes");
+    }
+
+    @Test
+    void testMissingArgumentsKeepSlots() {
+        final MessageTemplate template = MessageTemplate.compile("{1} and {2}");
+        assertEquals("first and {2}", template.format("first"), "slots without argument should be kept");
+        assertEquals("{1} and {2}", template.format((String[]) null), "slots without arguments should be kept");
+    }
+
+    @Test
+    void testVariablesAreResolved() {
+        final MessageTemplate template = MessageTemplate.compile("You have %point.money.amount% coins");
+        assertEquals("You have %point.money.amount% coins", template.format(),
+                "variables should be kept without resolver");
+        assertEquals("You have 5 coins", template.format(null, variable -> "%point.money.amount%".equals(variable) ? "5" : "?"),
+                "variables should be resolved");
+    }
+
+    @Test
+    void testArgumentsInVariableNames() {
+        final MessageTemplate template = MessageTemplate.compile("%objective.{1}.left%");
+        assertEquals("left of wait", template.format(new String[]{"wait"},
+                variable -> "%objective.wait.left%".equals(variable) ? "left of wait" : "?"),
+                "arguments should be inserted into variable names before resolving them");
+    }
+
+    @Test
+    void testVariablesInArgumentsAreResolved() {
+        final MessageTemplate template = MessageTemplate.compile("Hello {1}!");
+        assertEquals("Hello %player%!", template.format("%player%"), "variables in arguments should be kept without resolver");
+        assertEquals("Hello Notch and 100%!", template.format(new String[]{"%player% and 100%"},
+                variable -> "%player%".equals(variable) ? "Notch" : "?"),
+                "variables in arguments should be resolved");
+    }
+
+    @Test
+    void testEmptyMessage() {
+        assertTrue(MessageTemplate.compile("").isEmpty(), "empty message should be empty");
+        assertFalse(MessageTemplate.compile("{1}").isEmpty(), "message with a slot should not be empty");
+    }
+}
@@ -0,0 +1,83 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test {@link CoalescingRecordQueue}.
+ */
+class CoalescingRecordQueueTest {
+
+    private static List<Record> drainAll(final CoalescingRecordQueue queue) {
+        final List<Record> records = new ArrayList<>();
+        queue.drainTo(records, Integer.MAX_VALUE);
+        return records;
+    }
+
+    @Test
+    void testRemoveSupersedesPendingRecordsOfSameKey() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        queue.add(new Record(UpdateType.REMOVE_OBJECTIVES, "profile", "objective"));
+        queue.add(new Record(UpdateType.ADD_OBJECTIVES, "profile", "objective", "1"));
+        final Record remove = new Record(UpdateType.REMOVE_OBJECTIVES, "profile", "objective");
+        final Record add = new Record(UpdateType.ADD_OBJECTIVES, "profile", "objective", "2");
+        queue.add(remove);
+        queue.add(add);
+        assertEquals(2, queue.size(), "superseded records should not be counted");
+        assertEquals(List.of(remove, add), drainAll(queue), "only the last delete-then-insert pair should remain");
+        assertEquals(2, queue.getCoalescedCount(), "two records should have been dropped");
+    }
+
+    @Test
+    void testDifferentKeysAreKeptInOrder() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        final Record first = new Record(UpdateType.REMOVE_POINTS, "profile", "first");
+        final Record second = new Record(UpdateType.REMOVE_POINTS, "profile", "second");
+        final Record third = new Record(UpdateType.REMOVE_POINTS, "other", "first");
+        queue.add(first);
+        queue.add(second);
+        queue.add(third);
+        assertEquals(List.of(first, second, third), drainAll(queue), "records with different keys should all be kept");
+    }
+
+    @Test
+    void testBarrierPreventsCoalescing() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        final Record add = new Record(UpdateType.ADD_TAGS, "profile", "tag");
+        final Record move = new Record(UpdateType.UPDATE_PLAYERS_TAGS, "other", "profile");
+        final Record remove = new Record(UpdateType.REMOVE_TAGS, "profile", "tag");
+        queue.add(add);
+        queue.add(move);
+        queue.add(remove);
+        assertEquals(List.of(add, move, remove), drainAll(queue), "records before a barrier must not be dropped");
+    }
+
+    @Test
+    void testDrainedRecordsAreNotSuperseded() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        final Record add = new Record(UpdateType.ADD_GLOBAL_TAGS, "tag");
+        queue.add(add);
+        assertEquals(List.of(add), drainAll(queue), "the record should be drained");
+        final Record remove = new Record(UpdateType.REMOVE_GLOBAL_TAGS, "tag");
+        queue.add(remove);
+        assertEquals(List.of(remove), drainAll(queue), "only the new record should be drained");
+        assertEquals(0, queue.getCoalescedCount(), "no record should have been dropped");
+        assertTrue(queue.isEmpty(), "queue should be empty");
+    }
+
+    @Test
+    void testDrainRespectsMaximum() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        queue.add(new Record(UpdateType.ADD_TAGS, "profile", "a"));
+        queue.add(new Record(UpdateType.ADD_TAGS, "profile", "b"));
+        queue.add(new Record(UpdateType.ADD_TAGS, "profile", "c"));
+        final List<Record> records = new ArrayList<>();
+        assertEquals(2, queue.drainTo(records, 2), "only two records should be drained");
+        assertEquals(1, queue.size(), "one record should remain");
+    }
+}
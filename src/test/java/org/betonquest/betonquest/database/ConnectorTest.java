@@ -0,0 +1,99 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.config.ConfigurationFile;
+import org.betonquest.betonquest.database.Saver.Record;
+import org.betonquest.betonquest.modules.logger.util.BetonQuestLoggerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link Connector#updateSQL(List)}.
+ */
+@ExtendWith(BetonQuestLoggerService.class)
+class ConnectorTest {
+    /**
+     * The statements prepared for each update type.
+     */
+    private final Map<UpdateType, PreparedStatement> statements = new EnumMap<>(UpdateType.class);
+
+    private Connection connection() throws SQLException {
+        final Connection connection = mock(Connection.class);
+        for (final UpdateType type : UpdateType.values()) {
+            final PreparedStatement statement = mock(PreparedStatement.class);
+            statements.put(type, statement);
+            lenient().when(connection.prepareStatement(type.createSql(""))).thenReturn(statement);
+        }
+        when(connection.getAutoCommit()).thenReturn(true);
+        return connection;
+    }
+
+    private Connector connector(final Connection connection) {
+        final BetonQuest plugin = BetonQuest.getInstance();
+        final ConfigurationFile config = mock(ConfigurationFile.class);
+        when(config.getString("mysql.prefix", "")).thenReturn("");
+        when(plugin.getPluginConfig()).thenReturn(config);
+        final Database database = mock(Database.class);
+        when(database.getConnection()).thenReturn(connection);
+        when(plugin.getDB()).thenReturn(database);
+        return new Connector();
+    }
+
+    @Test
+    void testInterleavedRemovesAndAddsAreBatchedOncePerType() throws SQLException {
+        final Connection connection = connection();
+        final List<Record> records = List.of(
+                new Record(UpdateType.REMOVE_OBJECTIVES, "profile", "first"),
+                new Record(UpdateType.ADD_OBJECTIVES, "profile", "first", "1"),
+                new Record(UpdateType.REMOVE_POINTS, "profile", "points"),
+                new Record(UpdateType.ADD_POINTS, "profile", "points", "2"),
+                new Record(UpdateType.REMOVE_OBJECTIVES, "profile", "second"),
+                new Record(UpdateType.ADD_OBJECTIVES, "profile", "second", "3"),
+                new Record(UpdateType.REMOVE_POINTS, "other", "points"),
+                new Record(UpdateType.ADD_POINTS, "other", "points", "4"));
+        connector(connection).updateSQL(records);
+
+        for (final UpdateType type : List.of(UpdateType.REMOVE_OBJECTIVES, UpdateType.ADD_OBJECTIVES,
+                UpdateType.REMOVE_POINTS, UpdateType.ADD_POINTS)) {
+            final PreparedStatement statement = statements.get(type);
+            verify(statement, times(1)).executeBatch();
+            verify(statement, times(2)).addBatch();
+        }
+        final InOrder order = inOrder(statements.get(UpdateType.REMOVE_OBJECTIVES), statements.get(UpdateType.REMOVE_POINTS),
+                statements.get(UpdateType.ADD_OBJECTIVES), statements.get(UpdateType.ADD_POINTS));
+        order.verify(statements.get(UpdateType.REMOVE_OBJECTIVES)).executeBatch();
+        order.verify(statements.get(UpdateType.REMOVE_POINTS)).executeBatch();
+        order.verify(statements.get(UpdateType.ADD_OBJECTIVES)).executeBatch();
+        order.verify(statements.get(UpdateType.ADD_POINTS)).executeBatch();
+        verify(connection).commit();
+    }
+
+    @Test
+    void testBarrierSplitsBatches() throws SQLException {
+        final Connection connection = connection();
+        final List<Record> records = List.of(
+                new Record(UpdateType.ADD_TAGS, "profile", "first"),
+                new Record(UpdateType.DELETE_TAGS, "profile"),
+                new Record(UpdateType.ADD_TAGS, "profile", "second"));
+        connector(connection).updateSQL(records);
+
+        final PreparedStatement addTags = statements.get(UpdateType.ADD_TAGS);
+        final PreparedStatement deleteTags = statements.get(UpdateType.DELETE_TAGS);
+        final InOrder order = inOrder(addTags, deleteTags);
+        order.verify(addTags).executeBatch();
+        order.verify(deleteTags).executeBatch();
+        order.verify(addTags).executeBatch();
+        verify(deleteTags, times(1)).addBatch();
+        verify(addTags, times(2)).executeBatch();
+    }
+}
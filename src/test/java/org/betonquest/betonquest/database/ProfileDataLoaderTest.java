@@ -0,0 +1,90 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.database.ProfileDataLoader.StoredProfileData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link ProfileDataLoader}.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+class ProfileDataLoaderTest {
+    /**
+     * The amount of threads that wait while another thread loads the batch.
+     */
+    private static final int WAITING_THREADS = 3;
+
+    private static void awaitBlocked(final List<Thread> threads) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline
+                && (threads.size() < WAITING_THREADS || threads.stream().anyMatch(thread -> thread.getState() != Thread.State.BLOCKED))) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void testSqlHasParametersForEveryTableAndProfile() {
+        final String sql = ProfileDataLoader.createSql("prefix_", 3);
+        assertEquals(18, sql.chars().filter(character -> character == '?').count(), "every table should have one parameter per profile");
+    }
+
+    @Test
+    void testSqlQueriesAllTablesWithPrefix() {
+        final String sql = ProfileDataLoader.createSql("prefix_", 1);
+        for (final String table : new String[]{"objectives", "tags", "journal", "points", "backpack", "player"}) {
+            assertTrue(sql.contains("FROM prefix_" + table + " WHERE"), "query should contain the table " + table);
+        }
+        assertEquals(5, sql.split("UNION ALL", -1).length - 1, "all six tables should be combined in one query");
+    }
+
+    @Test
+    void testFailedBatchCompletesAllWaitingRequests() throws Exception {
+        final ProfileDataLoader loader = spy(new ProfileDataLoader(mock(BetonQuestLogger.class)));
+        final List<Thread> waitingThreads = new CopyOnWriteArrayList<>();
+        final CountDownLatch loading = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            final Collection<String> profileIDs = invocation.getArgument(0);
+            if (profileIDs.isEmpty()) {
+                return Map.of();
+            }
+            if (profileIDs.contains("first")) {
+                loading.countDown();
+                awaitBlocked(waitingThreads);
+                return Map.of();
+            }
+            throw new IllegalStateException("broken row");
+        }).when(loader).loadAll(anyCollection());
+
+        final FutureTask<StoredProfileData> first = new FutureTask<>(() -> loader.load("first"));
+        new Thread(first).start();
+        assertTrue(loading.await(10, TimeUnit.SECONDS), "the first request should start loading");
+        final List<FutureTask<StoredProfileData>> waiting = new ArrayList<>();
+        for (int i = 0; i < WAITING_THREADS; i++) {
+            final String profileID = "waiting" + i;
+            final FutureTask<StoredProfileData> request = new FutureTask<>(() -> loader.load(profileID));
+            waiting.add(request);
+            final Thread thread = new Thread(request);
+            waitingThreads.add(thread);
+            thread.start();
+        }
+
+        assertNull(first.get(10, TimeUnit.SECONDS), "the first batch should be loaded");
+        for (final FutureTask<StoredProfileData> request : waiting) {
+            assertThrows(ExecutionException.class, () -> request.get(10, TimeUnit.SECONDS),
+                    "every request of the failed batch should fail instead of waiting forever");
+        }
+    }
+}
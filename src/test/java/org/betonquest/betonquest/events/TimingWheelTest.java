@@ -0,0 +1,96 @@
+package org.betonquest.betonquest.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test {@link TimingWheel}.
+ */
+class TimingWheelTest {
+    /**
+     * The wheel to test.
+     */
+    private final TimingWheel<Long> wheel = new TimingWheel<>();
+
+    /**
+     * The values that expired and the tick they expired at.
+     */
+    private final List<long[]> expired = new ArrayList<>();
+
+    private void advance(final long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            wheel.advance(value -> expired.add(new long[]{value, wheel.getCurrentTick()}));
+        }
+    }
+
+    @Test
+    void testValueExpiresAtItsDeadline() {
+        wheel.schedule(5, 5L);
+        advance(4);
+        assertTrue(expired.isEmpty(), "value should not expire before its deadline");
+        advance(1);
+        assertEquals(1, expired.size(), "value should expire at its deadline");
+        assertEquals(0, wheel.size(), "expired value should not be pending");
+    }
+
+    @Test
+    void testDelayBelowOneTickExpiresWithNextTick() {
+        wheel.schedule(0, 0L);
+        wheel.schedule(-10, -10L);
+        advance(1);
+        assertEquals(2, expired.size(), "values without delay should expire with the next tick");
+    }
+
+    @Test
+    void testCancelledValueDoesNotExpire() {
+        final TimingWheel.Timer<Long> timer = wheel.schedule(100, 100L);
+        assertTrue(wheel.cancel(timer), "pending timer should be cancelled");
+        assertFalse(wheel.cancel(timer), "cancelled timer should not be cancelled again");
+        assertFalse(timer.isPending(), "cancelled timer should not be pending");
+        advance(200);
+        assertTrue(expired.isEmpty(), "cancelled value should not expire");
+    }
+
+    @Test
+    void testValuesOnAllLevelsExpireOnTime() {
+        final Random random = new Random(42);
+        final long[] delays = new long[500];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = 1 + random.nextInt(300_000);
+            wheel.schedule(delays[i], delays[i]);
+        }
+        wheel.schedule(64, 64L);
+        wheel.schedule(4096, 4096L);
+        wheel.schedule(262_144, 262_144L);
+        advance(300_001);
+        assertEquals(delays.length + 3, expired.size(), "all values should expire");
+        for (final long[] entry : expired) {
+            assertEquals(entry[0], entry[1], "value should expire exactly at its deadline");
+        }
+    }
+
+    @Test
+    void testOverflowValueExpiresOnTime() {
+        final long delay = (1L << 24) + 70;
+        wheel.schedule(delay, delay);
+        advance(delay - 1);
+        assertTrue(expired.isEmpty(), "overflow value should not expire early");
+        advance(1);
+        assertEquals(1, expired.size(), "overflow value should expire at its deadline");
+    }
+
+    @Test
+    void testValueScheduledWhileExpiringIsKept() {
+        wheel.schedule(1, 1L);
+        wheel.advance(value -> wheel.schedule(3, 4L));
+        assertEquals(1, wheel.size(), "value scheduled while expiring should be pending");
+        advance(3);
+        assertEquals(1, expired.size(), "value scheduled while expiring should expire later");
+        assertEquals(4L, expired.get(0)[0], "value scheduled while expiring should expire at its deadline");
+    }
+}
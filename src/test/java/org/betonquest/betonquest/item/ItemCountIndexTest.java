@@ -0,0 +1,143 @@
+package org.betonquest.betonquest.item;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.profiles.OnlineProfile;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.database.PlayerData;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link ItemCountIndex}.
+ */
+class ItemCountIndexTest {
+    /**
+     * The UUID of the player.
+     */
+    private final UUID playerUUID = UUID.randomUUID();
+
+    /**
+     * The mocked static {@link Bukkit} class.
+     */
+    private MockedStatic<Bukkit> bukkit;
+
+    /**
+     * The mocked static {@link BetonQuest} class.
+     */
+    private MockedStatic<BetonQuest> betonQuest;
+
+    /**
+     * The inventory of the player.
+     */
+    private PlayerInventory inventory;
+
+    /**
+     * The profile of the player.
+     */
+    private Profile profile;
+
+    /**
+     * The item in the inventory.
+     */
+    private ItemStack inventoryItem;
+
+    /**
+     * The item in the backpack.
+     */
+    private ItemStack backpackItem;
+
+    /**
+     * The quest item matching both items.
+     */
+    private QuestItem questItem;
+
+    /**
+     * The index to test.
+     */
+    private ItemCountIndex index;
+
+    @BeforeEach
+    void setUp() {
+        bukkit = mockStatic(Bukkit.class);
+        bukkit.when(Bukkit::getPluginManager).thenReturn(mock(PluginManager.class));
+        bukkit.when(Bukkit::getScheduler).thenReturn(mock(BukkitScheduler.class));
+
+        inventoryItem = mock(ItemStack.class);
+        when(inventoryItem.getAmount()).thenReturn(3);
+        backpackItem = mock(ItemStack.class);
+        when(backpackItem.getAmount()).thenReturn(2);
+        inventory = mock(PlayerInventory.class);
+        when(inventory.getContents()).thenReturn(new ItemStack[]{inventoryItem, null});
+        final Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerUUID);
+        when(player.getInventory()).thenReturn(inventory);
+        final OnlineProfile onlineProfile = mock(OnlineProfile.class);
+        when(onlineProfile.getPlayer()).thenReturn(player);
+        profile = mock(Profile.class);
+        when(profile.getOnlineProfile()).thenReturn(Optional.of(onlineProfile));
+
+        final PlayerData playerData = mock(PlayerData.class);
+        when(playerData.getBackpackView()).thenReturn(List.of(backpackItem));
+        final BetonQuest plugin = mock(BetonQuest.class);
+        when(plugin.getPlayerData(profile)).thenReturn(playerData);
+        betonQuest = mockStatic(BetonQuest.class);
+        betonQuest.when(BetonQuest::getInstance).thenReturn(plugin);
+
+        questItem = mock(QuestItem.class);
+        when(questItem.compare(any())).thenReturn(true);
+        index = new ItemCountIndex(mock(Plugin.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        betonQuest.close();
+        bukkit.close();
+    }
+
+    @Test
+    void testInventoryAndBackpackAreCounted() {
+        assertEquals(5, index.getAmount(profile, questItem), "inventory and backpack items should be counted");
+    }
+
+    @Test
+    void testRepeatedCountIsAnsweredFromIndex() {
+        index.getAmount(profile, questItem);
+        when(inventoryItem.getAmount()).thenReturn(10);
+        assertEquals(5, index.getAmount(profile, questItem), "repeated count should be answered from the index");
+        assertEquals(1, index.getHitCount(), "repeated count should be a hit");
+        assertEquals(1, index.getMissCount(), "first count should be a miss");
+        verify(inventory, times(1)).getContents();
+    }
+
+    @Test
+    void testInvalidatedPlayerIsCountedAgain() {
+        index.getAmount(profile, questItem);
+        when(inventoryItem.getAmount()).thenReturn(10);
+        index.invalidate(playerUUID);
+        assertEquals(12, index.getAmount(profile, questItem), "invalidated player should be counted again");
+    }
+
+    @Test
+    void testInvalidateAllCountsAgain() {
+        index.getAmount(profile, questItem);
+        when(backpackItem.getAmount()).thenReturn(4);
+        index.invalidateAll();
+        assertEquals(7, index.getAmount(profile, questItem), "all players should be counted again");
+    }
+}
@@ -0,0 +1,239 @@
+package org.betonquest.betonquest.item;
+
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.item.typehandler.CustomModelDataHandler;
+import org.betonquest.betonquest.item.typehandler.DurabilityHandler;
+import org.betonquest.betonquest.item.typehandler.EnchantmentsHandler;
+import org.betonquest.betonquest.item.typehandler.FlagHandler;
+import org.betonquest.betonquest.item.typehandler.LoreHandler;
+import org.betonquest.betonquest.item.typehandler.NameHandler;
+import org.betonquest.betonquest.item.typehandler.UnbreakableHandler;
+import org.betonquest.betonquest.modules.logger.util.BetonQuestLoggerService;
+import org.betonquest.betonquest.utils.BlockSelector;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.Damageable;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Timing harness for {@link QuestItem#compare(ItemStack)}.
+ * <p>
+ * Each comparison is measured against a {@link ReferenceItem} that checks the item with the handler chain
+ * in the order {@link QuestItem} used before the meta fingerprint was introduced.
+ * The items use a proxy instead of a mock as their meta, so the measured time is spent in the comparison.
+ * It only runs with the {@code Test-Timing} profile and prints the nanoseconds per comparison and the speedup.
+ */
+@Tag("Timing")
+@ExtendWith(BetonQuestLoggerService.class)
+@SuppressWarnings("PMD.SystemPrintln")
+class QuestItemCompareTimingTest {
+    /**
+     * The instruction of the compared item.
+     */
+    private static final String INSTRUCTION = "stone custom-model-data:5 name:&aMagic_Sword lore:first_line;second_line";
+
+    /**
+     * The amount of slots of a player inventory, including armor and off hand.
+     */
+    private static final int INVENTORY_SIZE = 41;
+
+    /**
+     * The amount of comparisons before measuring.
+     */
+    private static final int WARMUP = 200_000;
+
+    /**
+     * The amount of measured comparisons.
+     */
+    private static final int ITERATIONS = 2_000_000;
+
+    /**
+     * The lore of the matching item.
+     */
+    private static final List<String> LORE = List.of("first line", "second line");
+
+    private static ItemStack item(final Material material, final Integer modelData, final String name, final List<String> lore) {
+        final ItemMeta meta = (ItemMeta) Proxy.newProxyInstance(QuestItemCompareTimingTest.class.getClassLoader(),
+                new Class<?>[]{Damageable.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "hasCustomModelData" -> modelData != null;
+                    case "getCustomModelData" -> modelData == null ? 0 : modelData;
+                    case "hasDisplayName" -> name != null;
+                    case "getDisplayName" -> name;
+                    case "hasLore" -> lore != null;
+                    case "getLore" -> lore;
+                    case "isUnbreakable", "hasDamage", "equals" -> false;
+                    case "getDamage", "hashCode" -> 0;
+                    case "getEnchants" -> Map.of();
+                    default -> null;
+                });
+        return new ItemStack(material) {
+            @Override
+            public ItemMeta getItemMeta() {
+                return meta;
+            }
+        };
+    }
+
+    private static ItemStack item(final Integer modelData, final String name, final List<String> lore) {
+        return item(Material.STONE, modelData, name, lore);
+    }
+
+    /**
+     * Fills a player inventory with a mix of matching items, items that miss on a single property
+     * and items of another material.
+     *
+     * @return the inventory contents
+     */
+    private static ItemStack[] inventory() {
+        final ItemStack[] variants = {
+                item(5, "§aMagic Sword", LORE),
+                item(6, "§aMagic Sword", LORE),
+                item(5, null, LORE),
+                item(5, "§aSword", LORE),
+                item(5, "§aMagic Sword", List.of("first line")),
+                item(Material.DIRT, null, null, null),
+                item(null, null, null),
+        };
+        final ItemStack[] contents = new ItemStack[INVENTORY_SIZE];
+        for (int slot = 0; slot < INVENTORY_SIZE; slot++) {
+            contents[slot] = variants[slot % variants.length];
+        }
+        return contents;
+    }
+
+    private static long nanosPerCompare(final Predicate<ItemStack> compare, final ItemStack... items) {
+        final int rounds = ITERATIONS / items.length;
+        int expected = 0;
+        for (final ItemStack item : items) {
+            if (compare.test(item)) {
+                expected++;
+            }
+        }
+        for (int i = 0; i < WARMUP / items.length; i++) {
+            for (final ItemStack item : items) {
+                compare.test(item);
+            }
+        }
+        int matches = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            for (final ItemStack item : items) {
+                if (compare.test(item)) {
+                    matches++;
+                }
+            }
+        }
+        final long nanos = System.nanoTime() - start;
+        assertEquals(expected * rounds, matches, "comparison result should not change");
+        return nanos / ((long) rounds * items.length);
+    }
+
+    private static void measure(final String name, final QuestItem questItem, final ReferenceItem reference,
+                                final ItemStack... items) {
+        for (final ItemStack item : items) {
+            assertEquals(reference.compare(item), questItem.compare(item), "both comparisons should have the same result");
+        }
+        final long referenceNanos = nanosPerCompare(reference::compare, items);
+        final long nanos = nanosPerCompare(questItem::compare, items);
+        System.out.println("QuestItem.compare " + name + ": " + nanos + " ns, handler chain: " + referenceNanos
+                + " ns, speedup: " + String.format("%.2f", (double) referenceNanos / Math.max(1, nanos)) + "x");
+    }
+
+    @Test
+    void testCompareTiming() throws InstructionParseException {
+        final QuestItem questItem = new QuestItem(INSTRUCTION);
+        final ReferenceItem reference = new ReferenceItem();
+        measure("match", questItem, reference, item(5, "§aMagic Sword", LORE));
+        measure("other model data", questItem, reference, item(6, "§aMagic Sword", LORE));
+        measure("missing name", questItem, reference, item(5, null, LORE));
+        measure("other name", questItem, reference, item(5, "§aSword", LORE));
+        measure("other lore", questItem, reference, item(5, "§aMagic Sword", List.of("first line")));
+    }
+
+    @Test
+    void testInventoryTiming() throws InstructionParseException {
+        measure("full inventory", new QuestItem(INSTRUCTION), new ReferenceItem(), inventory());
+    }
+
+    /**
+     * The item of {@link #INSTRUCTION} compared by running every handler in order, without a fingerprint.
+     */
+    private static final class ReferenceItem {
+        /**
+         * The material of the item.
+         */
+        private final BlockSelector selector;
+
+        /**
+         * The durability of the item.
+         */
+        private final DurabilityHandler durability = new DurabilityHandler();
+
+        /**
+         * The name of the item.
+         */
+        private final NameHandler name = new NameHandler();
+
+        /**
+         * The lore of the item.
+         */
+        private final LoreHandler lore = new LoreHandler();
+
+        /**
+         * The unbreakable state of the item.
+         */
+        private final UnbreakableHandler unbreakable = new UnbreakableHandler();
+
+        /**
+         * The custom model data of the item.
+         */
+        private final CustomModelDataHandler customModelData = new CustomModelDataHandler();
+
+        /**
+         * The flags of the item.
+         */
+        private final FlagHandler flags = new FlagHandler();
+
+        /**
+         * The enchantments of the item.
+         */
+        private final EnchantmentsHandler enchants = new EnchantmentsHandler();
+
+        private ReferenceItem() throws InstructionParseException {
+            selector = new BlockSelector("stone");
+            customModelData.parse("5");
+            name.set("&aMagic_Sword");
+            lore.set("first_line;second_line");
+        }
+
+        private boolean compare(final ItemStack item) {
+            if (item == null || !selector.match(item.getType())) {
+                return false;
+            }
+            if (!durability.check(item.getDurability())) {
+                return false;
+            }
+            final ItemMeta meta = item.getItemMeta();
+            if (meta == null) {
+                return true;
+            }
+            final String displayName = meta.hasDisplayName() ? meta.getDisplayName() : null;
+            return name.check(displayName)
+                    && lore.check(meta.getLore())
+                    && unbreakable.check(meta.isUnbreakable())
+                    && customModelData.check(meta)
+                    && flags.check(meta)
+                    && enchants.check(item.getEnchantments());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.betonquest.betonquest.item;
+
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.modules.logger.util.BetonQuestLoggerService;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link QuestItem#compare(ItemStack)}.
+ */
+@ExtendWith(BetonQuestLoggerService.class)
+class QuestItemTest {
+    private static ItemStack item(final Material material, final ItemMeta meta) {
+        final ItemStack item = mock(ItemStack.class);
+        when(item.getType()).thenReturn(material);
+        when(item.getItemMeta()).thenReturn(meta);
+        return item;
+    }
+
+    private static ItemMeta meta() {
+        return mock(ItemMeta.class);
+    }
+
+    private static ItemMeta metaWithModelData(final int modelData) {
+        final ItemMeta meta = meta();
+        when(meta.hasCustomModelData()).thenReturn(true);
+        when(meta.getCustomModelData()).thenReturn(modelData);
+        return meta;
+    }
+
+    private static ItemMeta metaWithName(final String name) {
+        final ItemMeta meta = meta();
+        when(meta.hasDisplayName()).thenReturn(true);
+        when(meta.getDisplayName()).thenReturn(name);
+        return meta;
+    }
+
+    private static ItemMeta metaWithLore(final String... lore) {
+        final ItemMeta meta = meta();
+        when(meta.hasLore()).thenReturn(true);
+        when(meta.getLore()).thenReturn(List.of(lore));
+        return meta;
+    }
+
+    @Test
+    void testOtherMaterialIsRejectedWithoutMeta() throws InstructionParseException {
+        final QuestItem questItem = new QuestItem("stone");
+        final ItemStack item = item(Material.DIRT, meta());
+        assertFalse(questItem.compare(item), "item of another material should not match");
+        verify(item, never()).getItemMeta();
+    }
+
+    @Test
+    void testItemMetaIsFetchedOnce() throws InstructionParseException {
+        final QuestItem questItem = new QuestItem("stone custom-model-data:5 name:&aSword lore:first;second");
+        final ItemMeta meta = metaWithModelData(5);
+        when(meta.hasDisplayName()).thenReturn(true);
+        when(meta.getDisplayName()).thenReturn("§aSword");
+        when(meta.hasLore()).thenReturn(true);
+        when(meta.getLore()).thenReturn(List.of("first", "second"));
+        final ItemStack item = item(Material.STONE, meta);
+        assertTrue(questItem.compare(item), "item with all properties should match");
+        verify(item, times(1)).getItemMeta();
+    }
+
+    @Test
+    void testRequiredCustomModelData() throws InstructionParseException {
+        final QuestItem questItem = new QuestItem("stone custom-model-data:5");
+        assertTrue(questItem.compare(item(Material.STONE, metaWithModelData(5))), "item with the model data should match");
+        assertFalse(questItem.compare(item(Material.STONE, metaWithModelData(6))), "item with other model data should not match");
+        assertFalse(questItem.compare(item(Material.STONE, meta())), "item without model data should not match");
+    }
+
+    @Test
+    void testForbiddenCustomModelData() throws InstructionParseException {
+        final QuestItem questItem = new QuestItem("stone no-custom-model-data");
+        assertTrue(questItem.compare(item(Material.STONE, meta())), "item without model data should match");
+        assertFalse(questItem.compare(item(Material.STONE, metaWithModelData(1))), "item with model data should not match");
+    }
+
+    @Test
+    void testRequiredName() throws InstructionParseException {
+        final QuestItem questItem = new QuestItem("stone name:&aMagic_Sword");
+        assertTrue(questItem.compare(item(Material.STONE, metaWithName("§aMagic Sword"))), "item with the name should match");
+        assertFalse(questItem.compare(item(Material.STONE, metaWithName("Sword"))), "item with another name should not match");
+        final ItemMeta unnamed = meta();
+        assertFalse(questItem.compare(item(Material.STONE, unnamed)), "item without name should not match");
+        verify(unnamed, never()).getDisplayName();
+    }
+
+    @Test
+    void testForbiddenName() throws InstructionParseException {
+        final QuestItem questItem = new QuestItem("stone name:none");
+        assertTrue(questItem.compare(item(Material.STONE, meta())), "item without name should match");
+        final ItemMeta named = metaWithName("Sword");
+        assertFalse(questItem.compare(item(Material.STONE, named)), "item with a name should not match");
+        verify(named, never()).getDisplayName();
+    }
+
+    @Test
+    void testRequiredLore() throws InstructionParseException {
+        final QuestItem questItem = new QuestItem("stone lore:first;second");
+        assertTrue(questItem.compare(item(Material.STONE, metaWithLore("first", "second"))), "item with the lore should match");
+        assertFalse(questItem.compare(item(Material.STONE, metaWithLore("first"))), "item with other lore should not match");
+        final ItemMeta withoutLore = meta();
+        assertFalse(questItem.compare(item(Material.STONE, withoutLore)), "item without lore should not match");
+        verify(withoutLore, never()).getLore();
+    }
+
+    @Test
+    void testForbiddenLore() throws InstructionParseException {
+        final QuestItem questItem = new QuestItem("stone lore:none");
+        assertTrue(questItem.compare(item(Material.STONE, meta())), "item without lore should match");
+        final ItemMeta withLore = metaWithLore("line");
+        assertFalse(questItem.compare(item(Material.STONE, withLore)), "item with lore should not match");
+        verify(withLore, never()).getLore();
+    }
+}
@@ -103,6 +103,25 @@ class DefaultBetonQuestLoggerTest {
         verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE, IO_EXCEPTION)));
     }
 
+    @Test
+    void debugSupplierWithPackage() {
+        logger.debug(questPackage, () -> LOG_MESSAGE);
+        verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE)));
+    }
+
+    @Test
+    void debugSupplierIsSkippedWhenNotConsumed() {
+        DebugLogState.setHistoryConsuming(false);
+        try {
+            logger.debug(questPackage, () -> {
+                throw new IllegalStateException("The message should not be created");
+            });
+        } finally {
+            DebugLogState.setHistoryConsuming(true);
+        }
+        verifyNoInteractions(handler);
+    }
+
     @Test
     void info() {
         logger.info(LOG_MESSAGE);
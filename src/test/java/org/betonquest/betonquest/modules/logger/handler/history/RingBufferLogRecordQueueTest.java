@@ -0,0 +1,108 @@
+package org.betonquest.betonquest.modules.logger.handler.history;
+
+import org.betonquest.betonquest.modules.logger.BetonQuestLogRecord;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link RingBufferLogRecordQueue}.
+ */
+class RingBufferLogRecordQueueTest {
+    /**
+     * Fixed instant representing now.
+     */
+    private final Instant now = Instant.now();
+
+    /**
+     * Fixed instant source returning {@link #now}.
+     */
+    private final InstantSource nowSource = InstantSource.fixed(now);
+
+    /**
+     * Duration that log entries are valid for.
+     */
+    private final Duration validFor = Duration.of(10, ChronoUnit.MINUTES);
+
+    private LogRecord record(final String message) {
+        final LogRecord record = new LogRecord(Level.INFO, message);
+        record.setInstant(now);
+        return record;
+    }
+
+    private List<String> publishAll(final LogRecordQueue logQueue) {
+        final List<String> messages = new ArrayList<>();
+        final Handler handler = mock(Handler.class);
+        doAnswer(invocation -> messages.add(invocation.<LogRecord>getArgument(0).getMessage())).when(handler).publish(any());
+        logQueue.publishAll(handler);
+        return messages;
+    }
+
+    @Test
+    void testOldestRecordsAreDroppedWhenFull() {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 2, Long.MAX_VALUE);
+        logQueue.push(record("record1"));
+        logQueue.push(record("record2"));
+        logQueue.push(record("record3"));
+        assertEquals(1, logQueue.getAndResetDroppedCount(), "one record should have been dropped");
+        assertEquals(0, logQueue.getAndResetDroppedCount(), "the dropped count should have been reset");
+        assertEquals(List.of("record2", "record3"), publishAll(logQueue), "the newest records should be kept in order");
+    }
+
+    @Test
+    void testOldestRecordsAreDroppedWhenTooLarge() {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 100, 1000);
+        logQueue.push(record("a".repeat(300)));
+        logQueue.push(record("b".repeat(300)));
+        assertEquals(1, logQueue.getAndResetDroppedCount(), "the first record should have been dropped");
+        assertEquals(List.of("b".repeat(300)), publishAll(logQueue), "only the newest record should be kept");
+    }
+
+    @Test
+    void testExpiredRecordsAreRemovedWithoutCounting() {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 10, Long.MAX_VALUE);
+        final LogRecord old = record("old");
+        old.setInstant(now.minus(validFor).minus(1, ChronoUnit.MINUTES));
+        logQueue.push(old);
+        logQueue.push(record("recent"));
+        assertEquals(0, logQueue.getAndResetDroppedCount(), "expired records should not count as dropped");
+        assertEquals(List.of("recent"), publishAll(logQueue), "only the recent record should be kept");
+    }
+
+    @Test
+    void testRecordsExpiredSincePushAreNotPublished() {
+        final InstantSource laterSource = mock(InstantSource.class);
+        when(laterSource.instant()).thenReturn(now);
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(laterSource, validFor, 10, Long.MAX_VALUE);
+        logQueue.push(record("expiring"));
+        when(laterSource.instant()).thenReturn(now.plus(validFor).plus(1, ChronoUnit.MINUTES));
+        assertFalse(logQueue.canPublish(), "records that expired since they were pushed should not be publishable");
+        assertEquals(List.of(), publishAll(logQueue), "records that expired since they were pushed should not be published");
+    }
+
+    @Test
+    void testLazyMessageIsOnlyCreatedWhenPublished() {
+        final RingBufferLogRecordQueue logQueue = new RingBufferLogRecordQueue(nowSource, validFor, 10, Long.MAX_VALUE);
+        final Plugin plugin = mock(Plugin.class);
+        when(plugin.getName()).thenReturn("TestPlugin");
+        final AtomicInteger created = new AtomicInteger();
+        final BetonQuestLogRecord record = new BetonQuestLogRecord(Level.FINE, () -> "lazy" + created.incrementAndGet(), plugin, null);
+        record.setInstant(now);
+        logQueue.push(record);
+        assertEquals(0, created.get(), "the message should not be created when pushed");
+        assertEquals(List.of("lazy1"), publishAll(logQueue), "the message should be created when published");
+    }
+}
@@ -0,0 +1,182 @@
+package org.betonquest.betonquest.objectives;
+
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link DelayScheduler}.
+ */
+class DelaySchedulerTest {
+    /**
+     * The owner of the scheduled completions.
+     */
+    private final Object owner = new Object();
+
+    /**
+     * The profile the completions are scheduled for.
+     */
+    private final Profile profile = mock(Profile.class);
+
+    /**
+     * The current time in epoch milliseconds.
+     */
+    private long now;
+
+    /**
+     * The mocked static {@link Bukkit} class.
+     */
+    private MockedStatic<Bukkit> bukkit;
+
+    /**
+     * The mocked Bukkit scheduler.
+     */
+    private BukkitScheduler bukkitScheduler;
+
+    /**
+     * The scheduler to test.
+     */
+    private DelayScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        now = 1000;
+        bukkitScheduler = mock(BukkitScheduler.class);
+        when(bukkitScheduler.runTaskTimer(any(Plugin.class), any(Runnable.class), anyLong(), anyLong()))
+                .thenReturn(mock(BukkitTask.class));
+        bukkit = mockStatic(Bukkit.class);
+        bukkit.when(Bukkit::getScheduler).thenReturn(bukkitScheduler);
+        final InstantSource instantSource = () -> Instant.ofEpochMilli(now);
+        scheduler = new DelayScheduler(mock(Plugin.class), instantSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bukkit.close();
+    }
+
+    @Test
+    void testCompletionRunsOnlyWhenDue() {
+        final AtomicInteger runs = new AtomicInteger();
+        scheduler.schedule(owner, profile, 2000, 10_000, () -> runs.incrementAndGet() > 0);
+        scheduler.tick();
+        assertEquals(0, runs.get(), "completion should not run before it is due");
+        now = 2000;
+        scheduler.tick();
+        assertEquals(1, runs.get(), "completion should run when it is due");
+        assertEquals(0, scheduler.size(), "completed entry should be removed");
+    }
+
+    @Test
+    void testCompletionsRunInDueOrder() {
+        final List<String> order = new ArrayList<>();
+        final Profile other = mock(Profile.class);
+        scheduler.schedule(owner, profile, 1500, 10_000, () -> order.add("second"));
+        scheduler.schedule(owner, other, 1200, 10_000, () -> order.add("first"));
+        now = 2000;
+        scheduler.tick();
+        assertEquals(List.of("first", "second"), order, "completions should run in the order they are due");
+    }
+
+    @Test
+    void testFailedCompletionIsRetriedWithBackOff() {
+        final AtomicInteger runs = new AtomicInteger();
+        scheduler.schedule(owner, profile, 1000, 150, () -> runs.incrementAndGet() >= 4);
+        scheduler.tick();
+        assertEquals(1, runs.get(), "completion should run when it is due");
+        now += 49;
+        scheduler.tick();
+        assertEquals(1, runs.get(), "retry should wait for the first back-off");
+        now += 1;
+        scheduler.tick();
+        assertEquals(2, runs.get(), "retry should run after the first back-off");
+        now += 100;
+        scheduler.tick();
+        assertEquals(3, runs.get(), "retry should run after the doubled back-off");
+        now += 149;
+        scheduler.tick();
+        assertEquals(3, runs.get(), "retry should wait for the maximum back-off");
+        now += 1;
+        scheduler.tick();
+        assertEquals(4, runs.get(), "retry should run after the maximum back-off");
+        assertEquals(0, scheduler.size(), "completed entry should be removed");
+    }
+
+    @Test
+    void testCancelledCompletionIsSkipped() {
+        final AtomicInteger runs = new AtomicInteger();
+        scheduler.schedule(owner, profile, 1000, 10_000, () -> runs.incrementAndGet() > 0);
+        scheduler.cancel(owner, profile);
+        scheduler.tick();
+        assertEquals(0, runs.get(), "cancelled completion should not run");
+    }
+
+    @Test
+    void testRescheduledCompletionReplacesPrevious() {
+        final AtomicInteger first = new AtomicInteger();
+        final AtomicInteger second = new AtomicInteger();
+        scheduler.schedule(owner, profile, 1000, 10_000, () -> first.incrementAndGet() > 0);
+        scheduler.schedule(owner, profile, 3000, 10_000, () -> second.incrementAndGet() > 0);
+        now = 2000;
+        scheduler.tick();
+        assertEquals(0, first.get(), "replaced completion should not run");
+        now = 3000;
+        scheduler.tick();
+        assertEquals(1, second.get(), "new completion should run");
+    }
+
+    @Test
+    void testOnlyLatestOfManyRescheduledCompletionsRuns() {
+        final AtomicInteger stale = new AtomicInteger();
+        final AtomicInteger latest = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            scheduler.schedule(owner, profile, 1000 + i, 10_000, () -> stale.incrementAndGet() > 0);
+        }
+        scheduler.schedule(owner, profile, 5000, 10_000, () -> latest.incrementAndGet() > 0);
+        assertEquals(1, scheduler.size(), "only the latest entry should be scheduled");
+        now = 5000;
+        scheduler.tick();
+        assertEquals(0, stale.get(), "replaced completions should not run");
+        assertEquals(1, latest.get(), "latest completion should run");
+        assertEquals(0, scheduler.size(), "completed entry should be removed");
+    }
+
+    @Test
+    void testTaskIsCancelledWhenEmpty() {
+        final BukkitTask task = mock(BukkitTask.class);
+        when(bukkitScheduler.runTaskTimer(any(Plugin.class), any(Runnable.class), anyLong(), anyLong())).thenReturn(task);
+        scheduler.schedule(owner, profile, 1000, 10_000, () -> true);
+        scheduler.cancelAll(owner);
+        scheduler.tick();
+        verify(task).cancel();
+    }
+
+    @Test
+    void testCancelStopsTaskWhenNothingIsLeft() {
+        final BukkitTask task = mock(BukkitTask.class);
+        when(bukkitScheduler.runTaskTimer(any(Plugin.class), any(Runnable.class), anyLong(), anyLong())).thenReturn(task);
+        final Profile other = mock(Profile.class);
+        scheduler.schedule(owner, profile, 5000, 10_000, () -> true);
+        scheduler.schedule(owner, other, 5000, 10_000, () -> true);
+        scheduler.cancel(owner, profile);
+        verify(task, never()).cancel();
+        scheduler.cancel(owner, other);
+        verify(task).cancel();
+        assertEquals(0, scheduler.size(), "cancelled entries should be removed");
+    }
+}
@@ -0,0 +1,136 @@
+package org.betonquest.betonquest.utils;
+
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.modules.logger.util.BetonQuestLoggerService;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link BlockSelector}.
+ */
+@ExtendWith(BetonQuestLoggerService.class)
+class BlockSelectorTest {
+    private static BlockData blockData(final Material material, final String asString) {
+        final BlockData blockData = mock(BlockData.class);
+        when(blockData.getMaterial()).thenReturn(material);
+        when(blockData.getAsString()).thenReturn(asString);
+        return blockData;
+    }
+
+    private static Block block(final BlockData blockData) {
+        final Block block = mock(Block.class);
+        when(block.getBlockData()).thenReturn(blockData);
+        return block;
+    }
+
+    private static Block block(final Material material, final String asString) {
+        return block(blockData(material, asString));
+    }
+
+    @Test
+    void testMaterial() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("minecraft:stone");
+        assertTrue(selector.match(Material.STONE), "selected material should match");
+        assertFalse(selector.match(Material.DIRT), "other material should not match");
+    }
+
+    @Test
+    void testWildcardMaterial() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector(".*_log");
+        assertTrue(selector.match(Material.OAK_LOG), "material matching the regex should match");
+        assertTrue(selector.match(Material.BIRCH_LOG), "every material matching the regex should match");
+        assertFalse(selector.match(Material.OAK_PLANKS), "material not matching the regex should not match");
+        assertTrue(selector.getMaterials().contains(Material.SPRUCE_LOG), "all matching materials should be listed");
+    }
+
+    @Test
+    void testUnknownMaterialIsRejected() {
+        assertThrows(InstructionParseException.class, () -> new BlockSelector("not_a_material"),
+                "selector without material should not be created");
+    }
+
+    @Test
+    void testStates() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_log[axis=y]");
+        assertTrue(selector.match(block(Material.OAK_LOG, "minecraft:oak_log[axis=y]"), false), "equal state should match");
+        assertFalse(selector.match(block(Material.OAK_LOG, "minecraft:oak_log[axis=x]"), false), "other state should not match");
+        assertFalse(selector.match(block(Material.OAK_LOG, "minecraft:oak_log"), false), "missing state should not match");
+        assertFalse(selector.match(block(Material.BIRCH_LOG, "minecraft:birch_log[axis=y]"), false),
+                "other material should not match");
+    }
+
+    @Test
+    void testRegexStates() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_log[axis=(x|y)]");
+        assertTrue(selector.match(block(Material.OAK_LOG, "minecraft:oak_log[axis=x]"), false), "state matching the regex should match");
+        assertTrue(selector.match(block(Material.OAK_LOG, "minecraft:oak_log[axis=y]"), false), "state matching the regex should match");
+        assertFalse(selector.match(block(Material.OAK_LOG, "minecraft:oak_log[axis=z]"), false),
+                "state not matching the regex should not match");
+    }
+
+    @Test
+    void testWildcardStates() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector(".*_stairs[facing=.*,half=bottom]");
+        assertTrue(selector.match(block(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=north,half=bottom]"), false),
+                "any value should match the wildcard");
+        assertTrue(selector.match(block(Material.STONE_STAIRS, "minecraft:stone_stairs[facing=east,half=bottom]"), false),
+                "any value should match the wildcard");
+        assertFalse(selector.match(block(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=north,half=top]"), false),
+                "the other states should still be checked");
+    }
+
+    @Test
+    void testInvalidRegexStateIsMatchedLiterally() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_log[axis=(]");
+        assertTrue(selector.match(block(Material.OAK_LOG, "minecraft:oak_log[axis=(]"), false), "equal state should match");
+        assertFalse(selector.match(block(Material.OAK_LOG, "minecraft:oak_log[axis=x]"), false), "other state should not match");
+    }
+
+    @Test
+    void testExactMatch() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_stairs[facing=north]");
+        final Block moreStates = block(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=north,half=bottom]");
+        assertTrue(selector.match(moreStates, false), "block with more states should match without exact match");
+        assertFalse(selector.match(moreStates, true), "block with more states should not match with exact match");
+        assertTrue(selector.match(block(Material.OAK_STAIRS, "minecraft:oak_stairs[facing=north]"), true),
+                "block with the same states should match with exact match");
+    }
+
+    @Test
+    void testExactMatchWithoutStates() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_log");
+        final Block withStates = block(Material.OAK_LOG, "minecraft:oak_log[axis=y]");
+        assertTrue(selector.match(withStates, false), "block with states should match without exact match");
+        assertFalse(selector.match(withStates, true), "block with states should not match with exact match");
+        assertTrue(selector.match(block(Material.OAK_LOG, "minecraft:oak_log"), true),
+                "block without states should match with exact match");
+    }
+
+    @Test
+    void testCachedStatesMatchLikeUncachedStates() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_stairs[facing=(north|south),half=bottom]");
+        final String asString = "minecraft:oak_stairs[facing=south,half=bottom]";
+        final BlockData cached = blockData(Material.OAK_STAIRS, asString);
+        final Block block = block(cached);
+        final boolean first = selector.match(block, false);
+        final boolean firstExact = selector.match(block, true);
+        assertEquals(first, selector.match(block, false), "cached states should match like the first parse");
+        assertEquals(firstExact, selector.match(block, true), "cached states should match like the first parse");
+        verify(cached, times(1)).getAsString();
+
+        final BlockData uncached = blockData(Material.OAK_STAIRS, asString);
+        assertEquals(first, selector.match(block(uncached), false), "uncached states should match like cached states");
+        assertEquals(firstExact, selector.match(block(uncached), true), "uncached states should match like cached states");
+        assertTrue(first, "block should match without exact match");
+        assertTrue(firstExact, "block should match with exact match");
+
+        final BlockSelector other = new BlockSelector("oak_stairs[facing=north]");
+        assertFalse(other.match(block, false), "cached states should not leak the result of another selector");
+    }
+}
@@ -0,0 +1,107 @@
+package org.betonquest.betonquest.utils.location;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link PlayerMoveDispatcher}.
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+class PlayerMoveDispatcherTest {
+    /**
+     * The world all test locations are in.
+     */
+    private World world;
+
+    /**
+     * The player that moves.
+     */
+    private Player player;
+
+    /**
+     * The mocked static {@link Bukkit} class.
+     */
+    private MockedStatic<Bukkit> bukkit;
+
+    /**
+     * The dispatcher to test.
+     */
+    private PlayerMoveDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        when(world.getName()).thenReturn("world");
+        player = mock(Player.class);
+        bukkit = mockStatic(Bukkit.class);
+        bukkit.when(Bukkit::getPluginManager).thenReturn(mock(PluginManager.class));
+        dispatcher = new PlayerMoveDispatcher(mock(Plugin.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bukkit.close();
+    }
+
+    private void move(final double fromX, final double toX) {
+        dispatcher.onMove(new PlayerMoveEvent(player, new Location(world, fromX, 64, 0), new Location(world, toX, 64, 0)));
+    }
+
+    @Test
+    void testSameBlockMoveIsSkipped() {
+        final PlayerMoveHandler handler = mock(PlayerMoveHandler.class);
+        dispatcher.register(handler);
+        move(0.2, 0.8);
+        verifyNoInteractions(handler);
+    }
+
+    @Test
+    void testIndexedHandlerOnlyReceivesMovesNearTarget() {
+        final PlayerMoveHandler handler = mock(PlayerMoveHandler.class);
+        dispatcher.register(handler, new Location(world, 100, 64, 0), 5);
+        move(0, 1);
+        verifyNoInteractions(handler);
+        move(99, 100);
+        verify(handler).onMove(eq(player), any(Location.class));
+    }
+
+    @Test
+    void testHandlerCoveringSeveralCellsIsFoundInEachCell() {
+        final PlayerMoveHandler handler = mock(PlayerMoveHandler.class);
+        dispatcher.register(handler, new Location(world, 0, 64, 0), 20);
+        move(-18, -19);
+        move(18, 19);
+        verify(handler, times(2)).onMove(eq(player), any(Location.class));
+    }
+
+    @Test
+    void testUnregisteredHandlerReceivesNoMoves() {
+        final PlayerMoveHandler indexed = mock(PlayerMoveHandler.class);
+        final PlayerMoveHandler unindexed = mock(PlayerMoveHandler.class);
+        dispatcher.register(indexed, new Location(world, 0, 64, 0), 5);
+        dispatcher.register(unindexed);
+        dispatcher.unregister(indexed);
+        dispatcher.unregister(unindexed);
+        move(0, 1);
+        verifyNoInteractions(indexed, unindexed);
+    }
+
+    @Test
+    void testHugeAreaReceivesEveryMove() {
+        final PlayerMoveHandler handler = mock(PlayerMoveHandler.class);
+        dispatcher.register(handler, new Location(world, 0, 64, 0), 1_000_000);
+        move(5000, 5001);
+        verify(handler).onMove(eq(player), any(Location.class));
+    }
+}